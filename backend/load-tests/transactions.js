@@ -0,0 +1,45 @@
+// k6 load test comparing platform and virtual thread modes.
+//
+//   VIRTUAL_THREADS_ENABLED=false ./mvnw -Pjava21 spring-boot:run
+//   k6 run -e VUS=1000 load-tests/transactions.js
+//
+//   VIRTUAL_THREADS_ENABLED=true ./mvnw -Pjava21 spring-boot:run
+//   k6 run -e VUS=1000 load-tests/transactions.js
+//
+// Compare http_reqs (throughput) and http_req_duration p(95) between both runs.
+// No baseline is recorded in the repository; measure both modes on the same host before
+// drawing conclusions about either.
+import http from 'k6/http';
+import { check } from 'k6';
+import encoding from 'k6/encoding';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CLIENT_ID = __ENV.CLIENT_ID || 'myclientid';
+const CLIENT_SECRET = __ENV.CLIENT_SECRET || 'myclientsecret';
+const USERNAME = __ENV.USERNAME || 'elissandro@gmail.com';
+const PASSWORD = __ENV.PASSWORD || '123456';
+
+export const options = {
+	scenarios: {
+		reads: {
+			executor: 'constant-vus',
+			vus: Number(__ENV.VUS || 500),
+			duration: __ENV.DURATION || '60s',
+		},
+	},
+};
+
+export function setup() {
+	const res = http.post(`${BASE_URL}/oauth2/token`,
+		{ grant_type: 'password', username: USERNAME, password: PASSWORD },
+		{ headers: { Authorization: `Basic ${encoding.b64encode(`${CLIENT_ID}:${CLIENT_SECRET}`)}` } });
+	return { token: res.json('access_token') };
+}
+
+export default function (data) {
+	const params = { headers: { Authorization: `Bearer ${data.token}` } };
+	const res = http.get(`${BASE_URL}/transactions?page=0&size=20`, params);
+	check(res, { 'status is 200': (r) => r.status === 200 });
+	const summary = http.get(`${BASE_URL}/transactions/summary`, params);
+	check(summary, { 'summary is 200': (r) => r.status === 200 });
+}
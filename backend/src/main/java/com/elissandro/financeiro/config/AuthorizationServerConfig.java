@@ -19,6 +19,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.authorization.InMemoryOAuth2AuthorizationConsentService;
@@ -46,6 +47,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import com.elissandro.financeiro.config.customGrant.CustomPasswordAuthenticationConverter;
 import com.elissandro.financeiro.config.customGrant.CustomPasswordAuthenticationProvider;
 import com.elissandro.financeiro.config.customGrant.CustomUserAuthorities;
+import com.elissandro.financeiro.jfr.JwtDecodeEvent;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.JWKSource;
@@ -163,7 +165,18 @@ public class AuthorizationServerConfig {
 
     @Bean
     JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource) {
-		return OAuth2AuthorizationServerConfiguration.jwtDecoder(jwkSource);
+		JwtDecoder decoder = OAuth2AuthorizationServerConfiguration.jwtDecoder(jwkSource);
+		return token -> {
+			JwtDecodeEvent event = new JwtDecodeEvent();
+			event.begin();
+			try {
+				Jwt jwt = decoder.decode(token);
+				event.success = true;
+				return jwt;
+			} finally {
+				event.commit();
+			}
+		};
 	}
 
     @Bean
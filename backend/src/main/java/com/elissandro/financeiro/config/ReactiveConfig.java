@@ -0,0 +1,57 @@
+package com.elissandro.financeiro.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+// Declaring a ConnectionFactory makes Boot's DataSourceAutoConfiguration back off, so the JDBC pool
+// that JPA, Flyway and the servlet endpoints still need is declared here as well
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveConfig {
+
+	@Value("${spring.r2dbc.url}")
+	private String url;
+
+	@Value("${spring.r2dbc.username}")
+	private String username;
+
+	@Value("${spring.r2dbc.password}")
+	private String password;
+
+	@Bean
+	@ConditionalOnExpression("'${datasource.replicas.urls:}'.isBlank()")
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource dataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	ConnectionFactory connectionFactory() {
+		// @formatter:off
+		ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+			.option(ConnectionFactoryOptions.USER, username)
+			.option(ConnectionFactoryOptions.PASSWORD, password)
+			.build();
+		// @formatter:on
+		return ConnectionFactories.get(options);
+	}
+
+	@Bean
+	DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+		return DatabaseClient.create(connectionFactory);
+	}
+}
@@ -0,0 +1,79 @@
+package com.elissandro.financeiro.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@ConditionalOnExpression("!'${datasource.replicas.urls:}'.isBlank()")
+public class ReadReplicaConfig {
+
+	@Value("${datasource.replicas.urls}")
+	private String urls;
+
+	@Value("${datasource.replicas.username}")
+	private String username;
+
+	@Value("${datasource.replicas.password}")
+	private String password;
+
+	@Value("${datasource.replicas.pool-size}")
+	private int poolSize;
+
+	@Value("${datasource.replicas.connection-timeout-ms}")
+	private long connectionTimeoutMs;
+
+	@Value("${datasource.replicas.sticky-ms}")
+	private long stickyMs;
+
+	@Autowired
+	private Environment environment;
+
+	@Bean
+	ReadReplicaRoutingDataSource routingDataSource(DataSourceProperties properties) {
+		HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		primary.setPoolName("primary");
+
+		List<DataSource> replicas = new ArrayList<>();
+		for (String url : urls.split(",")) {
+			HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class).url(url.trim())
+					.username(username).password(password).build();
+			replica.setPoolName("replica-" + (replicas.size() + 1));
+			replica.setMaximumPoolSize(poolSize);
+			replica.setConnectionTimeout(connectionTimeoutMs);
+			replica.setInitializationFailTimeout(-1);
+			replica.setReadOnly(true);
+			replicas.add(bounded(replica));
+		}
+		return new ReadReplicaRoutingDataSource(bounded(primary), replicas, stickyMs);
+	}
+
+	@Bean
+	@Primary
+	DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+	// VirtualThreadConfig only sees HikariDataSource beans, and these pools are built here
+	private DataSource bounded(HikariDataSource pool) {
+		if (!Threading.VIRTUAL.isActive(environment)) {
+			return pool;
+		}
+		return new BoundedDataSource(pool, pool.getMaximumPoolSize(), pool.getConnectionTimeout());
+	}
+}
@@ -0,0 +1,165 @@
+package com.elissandro.financeiro.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.elissandro.financeiro.services.AuthService;
+import com.zaxxer.hikari.HikariDataSource;
+
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+	private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final long stickyMillis;
+	private final AtomicInteger next = new AtomicInteger();
+	private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+	public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, long stickyMillis) {
+		this.primary = primary;
+		this.replicas = replicas.stream().map(Replica::new).toList();
+		this.stickyMillis = stickyMillis;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		Replica replica = route();
+		if (replica != null) {
+			try {
+				return replica.dataSource.getConnection();
+			} catch (SQLException e) {
+				markDown(replica, e);
+			}
+		}
+		return primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		Replica replica = route();
+		if (replica != null) {
+			try {
+				return replica.dataSource.getConnection(username, password);
+			} catch (SQLException e) {
+				markDown(replica, e);
+			}
+		}
+		return primary.getConnection(username, password);
+	}
+
+	@Scheduled(fixedDelayString = "${datasource.replicas.health-check-ms}")
+	public void checkReplicas() {
+		for (Replica replica : replicas) {
+			boolean healthy;
+			try (Connection connection = replica.dataSource.getConnection()) {
+				healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+			} catch (SQLException e) {
+				healthy = false;
+			}
+			if (healthy && !replica.healthy) {
+				logger.info("Read replica {} is back, routing read-only transactions to it", replica.name());
+			} else if (!healthy && replica.healthy) {
+				logger.warn("Read replica {} failed its health check, falling back", replica.name());
+			}
+			replica.healthy = healthy;
+		}
+		long now = System.currentTimeMillis();
+		stickyUntil.values().removeIf(until -> until <= now);
+	}
+
+	public void close() {
+		for (Replica replica : replicas) {
+			close(replica.dataSource);
+		}
+		close(primary);
+	}
+
+	private static void close(DataSource dataSource) {
+		if (dataSource instanceof AutoCloseable closeable) {
+			try {
+				closeable.close();
+			} catch (Exception e) {
+				logger.warn("Could not close data source {}", dataSource, e);
+			}
+		}
+	}
+
+	private Replica route() {
+		String user = AuthService.currentUsername();
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+				stick(user);
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCompletion(int status) {
+						stick(user);
+					}
+				});
+			}
+			return null;
+		}
+		if (user != null) {
+			Long until = stickyUntil.get(user);
+			if (until != null && until > System.currentTimeMillis()) {
+				return null;
+			}
+		}
+		int size = replicas.size();
+		int start = Math.floorMod(next.getAndIncrement(), size);
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (replica.healthy) {
+				return replica;
+			}
+		}
+		return null;
+	}
+
+	private void stick(String user) {
+		stickyUntil.put(user, System.currentTimeMillis() + stickyMillis);
+	}
+
+	private void markDown(Replica replica, SQLException e) {
+		if (replica.healthy) {
+			logger.warn("Read replica {} is unavailable, falling back to the primary: {}", replica.name(), e.getMessage());
+		}
+		replica.healthy = false;
+	}
+
+	private static class Replica {
+
+		private final DataSource dataSource;
+		private volatile boolean healthy = true;
+
+		Replica(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+
+		String name() {
+			try {
+				if (dataSource.isWrapperFor(HikariDataSource.class)) {
+					return dataSource.unwrap(HikariDataSource.class).getPoolName();
+				}
+			} catch (SQLException e) {
+				// fall back to the data source description
+			}
+			return dataSource.toString();
+		}
+	}
+}
@@ -16,6 +16,8 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -27,6 +29,8 @@ import org.springframework.web.filter.CorsFilter;
 @EnableMethodSecurity
 public class ResourceServerConfig {
 
+	private static final String STREAM_PATH = "/transactions/stream";
+
 	@Value("${cors.origins}")
 	private String corsOrigins;
 
@@ -51,6 +55,16 @@ public class ResourceServerConfig {
 		return http.build();
 	}
 
+    @Bean
+    BearerTokenResolver bearerTokenResolver() {
+		DefaultBearerTokenResolver headerResolver = new DefaultBearerTokenResolver();
+		DefaultBearerTokenResolver streamResolver = new DefaultBearerTokenResolver();
+		streamResolver.setAllowUriQueryParameter(true);
+		return request -> STREAM_PATH.equals(request.getServletPath())
+				? streamResolver.resolve(request)
+				: headerResolver.resolve(request);
+	}
+
     @Bean
     JwtAuthenticationConverter jwtAuthenticationConverter() {
 		JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
@@ -71,7 +85,8 @@ public class ResourceServerConfig {
 		corsConfig.setAllowedOriginPatterns(Arrays.asList(origins));
 		corsConfig.setAllowedMethods(Arrays.asList("POST", "GET", "PUT", "DELETE", "PATCH"));
 		corsConfig.setAllowCredentials(true);
-		corsConfig.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+		corsConfig.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "If-None-Match", "Idempotency-Key"));
+		corsConfig.setExposedHeaders(Arrays.asList("ETag"));
 
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
 		source.registerCorsConfiguration("/**", corsConfig);
@@ -0,0 +1,48 @@
+package com.elissandro.financeiro.config;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.api.output.MigrateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import com.elissandro.financeiro.jfr.StartupEvent;
+
+@Configuration
+public class StartupTimingConfig {
+
+	private static final Logger logger = LoggerFactory.getLogger(StartupTimingConfig.class);
+
+	private volatile long migrationMillis;
+	private volatile int migrationsApplied;
+
+	@Bean
+	FlywayMigrationStrategy timedMigrationStrategy() {
+		return flyway -> {
+			long start = System.nanoTime();
+			MigrateResult result = flyway.migrate();
+			migrationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			migrationsApplied = result.migrationsExecuted;
+			logger.info("Schema at version {} after applying {} migrations in {} ms", result.targetSchemaVersion,
+					migrationsApplied, migrationMillis);
+		};
+	}
+
+	@EventListener
+	public void onReady(ApplicationReadyEvent event) {
+		StartupEvent startup = new StartupEvent();
+		startup.jvmUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+		startup.contextReadyTime = event.getTimeTaken().toMillis();
+		startup.migrationTime = migrationMillis;
+		startup.migrationsApplied = migrationsApplied;
+		startup.commit();
+		logger.info("Ready in {} ms since JVM start (context {} ms, schema migrations {} ms)", startup.jvmUptime,
+				startup.contextReadyTime, startup.migrationTime);
+	}
+}
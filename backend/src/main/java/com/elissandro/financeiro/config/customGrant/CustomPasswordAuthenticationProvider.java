@@ -32,6 +32,8 @@ import org.springframework.security.oauth2.server.authorization.token.OAuth2Toke
 import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenGenerator;
 import org.springframework.util.Assert;
 
+import com.elissandro.financeiro.jfr.AuthenticationEvent;
+
 public class CustomPasswordAuthenticationProvider implements AuthenticationProvider {
 
 	private static final String ERROR_URI = "https://datatracker.ietf.org/doc/html/rfc6749#section-5.2";
@@ -67,14 +69,24 @@ public class CustomPasswordAuthenticationProvider implements AuthenticationProvi
 		username = customPasswordAuthenticationToken.getUsername();
 		password = customPasswordAuthenticationToken.getPassword();	
 		
+		AuthenticationEvent event = new AuthenticationEvent();
+		event.begin();
+		
 		UserDetails user = null;
 		try {
 			user = userDetailsService.loadUserByUsername(username);
 		} catch (UsernameNotFoundException e) {
+			event.commit();
 			throw new OAuth2AuthenticationException("Invalid credentials");
 		}
+		
+		long passwordCheckStart = System.nanoTime();
+		boolean passwordMatches = passwordEncoder.matches(password, user.getPassword());
+		event.passwordCheckTime = System.nanoTime() - passwordCheckStart;
+		event.success = passwordMatches && user.getUsername().equals(username);
+		event.commit();
 				
-		if (!passwordEncoder.matches(password, user.getPassword()) || !user.getUsername().equals(username)) {
+		if (!event.success) {
 			throw new OAuth2AuthenticationException("Invalid credentials");
 		}
 		
@@ -0,0 +1,33 @@
+package com.elissandro.financeiro.controllers;
+
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.elissandro.financeiro.dto.AuditEntryDTO;
+import com.elissandro.financeiro.services.AuditJournal;
+
+@RestController
+@RequestMapping("/audit")
+public class AuditController {
+
+	@Autowired
+	private AuditJournal journal;
+
+	@PreAuthorize("hasAnyRole('ADMIN')")
+	@GetMapping
+	public ResponseEntity<Page<AuditEntryDTO>> search(@RequestParam(required = false) String resource,
+			@RequestParam(required = false) Long entityId, @RequestParam(required = false) String actor,
+			@RequestParam(required = false) Instant from, @RequestParam(required = false) Instant to,
+			Pageable pageable) {
+		return ResponseEntity.ok(journal.search(resource, entityId, actor, from, to, pageable));
+	}
+}
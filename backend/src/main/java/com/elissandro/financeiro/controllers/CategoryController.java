@@ -3,18 +3,22 @@ package com.elissandro.financeiro.controllers;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.elissandro.financeiro.dto.CategoryDTO;
 import com.elissandro.financeiro.services.CategoryService;
+import com.elissandro.financeiro.services.ResourceVersionService;
 
 @RestController
 @RequestMapping("/categories")
@@ -23,16 +27,27 @@ public class CategoryController {
 	@Autowired
 	private CategoryService service;
 	
+	@Autowired
+	private ResourceVersionService versionService;
+	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
 	@GetMapping("/{id}")
-	public CategoryDTO findById(@PathVariable Long id) {
-		return service.findById(id);
+	public ResponseEntity<CategoryDTO> findById(@PathVariable Long id, WebRequest request) {
+		String etag = versionService.etag(ResourceVersionService.CATEGORIES);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).body(service.findById(id));
 	}
 	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
 	@GetMapping
-	public List<CategoryDTO> findAll() {
-		return service.findAll();
+	public ResponseEntity<List<CategoryDTO>> findAll(WebRequest request) {
+		String etag = versionService.etag(ResourceVersionService.CATEGORIES);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).body(service.findAll());
 	}
 	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
@@ -47,6 +62,19 @@ public class CategoryController {
 		return service.update(id, categoryDTO);
 	}
 	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PatchMapping("/{id}")
+	public ResponseEntity<Void> patchCategory(@PathVariable Long id, @RequestBody CategoryDTO categoryDTO) {
+		long version = service.patch(id, categoryDTO);
+		return ResponseEntity.noContent().eTag("\"" + version + "\"").build();
+	}
+	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PostMapping("/{id}/merge-into/{target}")
+	public CategoryDTO mergeInto(@PathVariable Long id, @PathVariable Long target) {
+		return service.mergeInto(id, target);
+	}
+	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
 	@DeleteMapping("/{id}")
 	public void deleteCategory(@PathVariable Long id) {
@@ -0,0 +1,58 @@
+package com.elissandro.financeiro.controllers;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.elissandro.financeiro.dto.CategoryRuleDTO;
+import com.elissandro.financeiro.services.CategoryRuleService;
+
+@RestController
+@RequestMapping("/category-rules")
+public class CategoryRuleController {
+
+	@Autowired
+	private CategoryRuleService service;
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping
+	public List<CategoryRuleDTO> findAll() {
+		return service.findAll();
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping("/match")
+	public Map<String, Long> match(@RequestParam String description) {
+		return Collections.singletonMap("categoryId", service.categorize(description));
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PostMapping
+	public CategoryRuleDTO insert(@RequestBody CategoryRuleDTO dto) {
+		return service.insert(dto);
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PutMapping("/{id}")
+	public CategoryRuleDTO update(@PathVariable Long id, @RequestBody CategoryRuleDTO dto) {
+		return service.update(id, dto);
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@DeleteMapping("/{id}")
+	public void delete(@PathVariable Long id) {
+		service.delete(id);
+	}
+}
@@ -0,0 +1,70 @@
+package com.elissandro.financeiro.controllers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.elissandro.financeiro.dto.InstallmentDTO;
+import com.elissandro.financeiro.dto.InstallmentPlanDTO;
+import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.services.InstallmentPlanService;
+
+@RestController
+@RequestMapping("/installment-plans")
+public class InstallmentPlanController {
+
+	@Autowired
+	private InstallmentPlanService service;
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping
+	public List<InstallmentPlanDTO> findAll() {
+		return service.findAll();
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping("/installments")
+	public List<InstallmentDTO> findInstallments(
+			@RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+			@RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate to) {
+		return service.findInstallments(from, to);
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping("/{id}/installments")
+	public List<InstallmentDTO> findInstallments(@PathVariable Long id) {
+		return service.findInstallments(id);
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PostMapping
+	public InstallmentPlanDTO insert(@RequestBody InstallmentPlanDTO dto) {
+		return service.insert(dto);
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PutMapping("/{id}/installments/{number}")
+	public TransactionDTO updateInstallment(@PathVariable Long id, @PathVariable Integer number,
+			@RequestBody TransactionDTO dto) {
+		return service.updateInstallment(id, number, dto);
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@DeleteMapping("/{id}")
+	public void delete(@PathVariable Long id) {
+		service.delete(id);
+	}
+}
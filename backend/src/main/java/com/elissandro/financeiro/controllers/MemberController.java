@@ -3,18 +3,22 @@ package com.elissandro.financeiro.controllers;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.elissandro.financeiro.dto.MemberDTO;
 import com.elissandro.financeiro.services.MemberService;
+import com.elissandro.financeiro.services.ResourceVersionService;
 
 @RestController
 @RequestMapping("/members")
@@ -23,10 +27,17 @@ public class MemberController {
 	@Autowired
 	private MemberService service;
 	
+	@Autowired
+	private ResourceVersionService versionService;
+	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
 	@GetMapping
-	public List<MemberDTO> findAll() {
-		return service.findAll();
+	public ResponseEntity<List<MemberDTO>> findAll(WebRequest request) {
+		String etag = versionService.etag(ResourceVersionService.MEMBERS);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).body(service.findAll());
 	}
 	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
@@ -40,6 +51,27 @@ public class MemberController {
 		return service.update(id, memberDTO);
 	}
 	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PatchMapping("/{id}")
+	public ResponseEntity<Void> patchMember(@PathVariable Long id, @RequestBody MemberDTO memberDTO) {
+		long version = service.patch(id, memberDTO);
+		return ResponseEntity.noContent().eTag("\"" + version + "\"").build();
+	}
+	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PostMapping("/{id}/archive")
+	public ResponseEntity<Void> archiveMember(@PathVariable Long id) {
+		service.archive(id);
+		return ResponseEntity.noContent().build();
+	}
+	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PostMapping("/{id}/reassign-to/{target}")
+	public ResponseEntity<Void> reassignMember(@PathVariable Long id, @PathVariable Long target) {
+		service.reassignTo(id, target);
+		return ResponseEntity.noContent().build();
+	}
+	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
 	@DeleteMapping("/{id}")
 	public void deleteMember(@PathVariable Long id) {
@@ -0,0 +1,52 @@
+package com.elissandro.financeiro.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.elissandro.financeiro.dto.CategoryDTO;
+import com.elissandro.financeiro.dto.MemberDTO;
+import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.repositories.ReactiveReadRepository;
+import com.elissandro.financeiro.services.exceptions.ResourceNotFoundException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+public class ReactiveReadController {
+
+	@Autowired
+	private ReactiveReadRepository repository;
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping(value = "/transactions", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<TransactionDTO> findAllTransactions() {
+		return repository.findAllTransactions();
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping(value = "/transactions/{id}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<TransactionDTO> findTransactionById(@PathVariable Long id) {
+		return repository.findTransactionById(id)
+				.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Transaction not found")))
+				.flux();
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping(value = "/categories", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<CategoryDTO> findAllCategories() {
+		return repository.findAllCategories();
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping(value = "/members", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<MemberDTO> findAllMembers() {
+		return repository.findAllMembers();
+	}
+}
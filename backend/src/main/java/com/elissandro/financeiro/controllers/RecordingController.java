@@ -0,0 +1,50 @@
+package com.elissandro.financeiro.controllers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.elissandro.financeiro.services.RecordingService;
+
+@RestController
+@RequestMapping("/recordings")
+public class RecordingController {
+
+	@Autowired
+	private RecordingService service;
+
+	@PreAuthorize("hasAnyRole('ADMIN')")
+	@PostMapping("/start")
+	public ResponseEntity<Void> start(@RequestParam(defaultValue = "profile") String settings,
+			@RequestParam(required = false) Long durationSeconds) {
+		service.start(settings, durationSeconds);
+		return ResponseEntity.noContent().build();
+	}
+
+	@PreAuthorize("hasAnyRole('ADMIN')")
+	@PostMapping("/stop")
+	public ResponseEntity<StreamingResponseBody> stop() {
+		Path file = service.stop();
+		StreamingResponseBody body = out -> {
+			try {
+				Files.copy(file, out);
+			} finally {
+				Files.deleteIfExists(file);
+			}
+		};
+		return ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+				.contentType(MediaType.APPLICATION_OCTET_STREAM)
+				.body(body);
+	}
+}
@@ -0,0 +1,49 @@
+package com.elissandro.financeiro.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.elissandro.financeiro.dto.RecurringTransactionDTO;
+import com.elissandro.financeiro.services.RecurringTransactionService;
+
+@RestController
+@RequestMapping("/recurring-transactions")
+public class RecurringTransactionController {
+
+	@Autowired
+	private RecurringTransactionService service;
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping
+	public List<RecurringTransactionDTO> findAll() {
+		return service.findAll();
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PostMapping
+	public RecurringTransactionDTO insert(@RequestBody RecurringTransactionDTO dto) {
+		return service.insert(dto);
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PutMapping("/{id}")
+	public RecurringTransactionDTO update(@PathVariable Long id, @RequestBody RecurringTransactionDTO dto) {
+		return service.update(id, dto);
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@DeleteMapping("/{id}")
+	public void delete(@PathVariable Long id) {
+		service.delete(id);
+	}
+}
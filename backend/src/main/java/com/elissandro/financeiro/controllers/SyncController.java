@@ -0,0 +1,27 @@
+package com.elissandro.financeiro.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.elissandro.financeiro.dto.SyncChangesDTO;
+import com.elissandro.financeiro.services.SyncService;
+
+@RestController
+@RequestMapping("/sync")
+public class SyncController {
+
+	@Autowired
+	private SyncService service;
+
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping("/changes")
+	public ResponseEntity<SyncChangesDTO> changes(@RequestParam(required = false) String since,
+			@RequestParam(required = false) Integer limit) {
+		return ResponseEntity.ok(service.changes(since, limit));
+	}
+}
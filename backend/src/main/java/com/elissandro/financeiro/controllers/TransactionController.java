@@ -1,44 +1,167 @@
 package com.elissandro.financeiro.controllers;
 
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.elissandro.financeiro.dto.BalanceGranularity;
+import com.elissandro.financeiro.dto.BalanceSeriesDTO;
+import com.elissandro.financeiro.dto.DescriptionSuggestionDTO;
+import com.elissandro.financeiro.dto.TransactionBulkDTO;
+import com.elissandro.financeiro.dto.TransactionBulkResultDTO;
 import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.dto.TransactionImportResultDTO;
+import com.elissandro.financeiro.dto.TransactionSummaryDTO;
+import com.elissandro.financeiro.projections.TransactionFieldSelection;
+import com.elissandro.financeiro.services.ChangeStreamService;
+import com.elissandro.financeiro.services.IdempotencyService;
+import com.elissandro.financeiro.services.ResourceVersionService;
+import com.elissandro.financeiro.services.TransactionImportService;
 import com.elissandro.financeiro.services.TransactionService;
 
 @RestController
 @RequestMapping("/transactions")
 public class TransactionController {
 
+	private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
 	@Autowired
 	private TransactionService service;
+	
+	@Autowired
+	private ResourceVersionService versionService;
+	
+	@Autowired
+	private TransactionImportService importService;
+	
+	@Autowired
+	private ChangeStreamService changeStreamService;
+	
+	@Autowired
+	private IdempotencyService idempotencyService;
 		
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
 	@GetMapping
-	public Page<TransactionDTO> findAll(Pageable pageable) {
-		return service.findAll(pageable);
+	public ResponseEntity<Page<Map<String, Object>>> findAll(Pageable pageable,
+			@RequestParam(required = false) String fields,
+			@RequestParam(required = false) String expand,
+			@RequestParam(required = false) String q,
+			WebRequest request) {
+		TransactionFieldSelection selection = TransactionFieldSelection.of(fields, expand);
+		String etag = transactionsEtag(request);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).body(service.findAll(pageable, selection, q));
+	}
+	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream() {
+		return changeStreamService.subscribe();
+	}
+	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping("/suggest")
+	public List<DescriptionSuggestionDTO> suggest(@RequestParam String prefix,
+			@RequestParam(defaultValue = "10") int limit) {
+		return service.suggest(prefix, limit);
+	}
+	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping("/summary")
+	public ResponseEntity<TransactionSummaryDTO> summary(
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate to,
+			WebRequest request) {
+		if (from == null || to == null) {
+			return ResponseEntity.ok(service.summary(from, to));
+		}
+		String etag = variantEtag(request, ResourceVersionService.TRANSACTIONS);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).body(service.summary(from, to));
+	}
+	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@GetMapping("/balance-series")
+	public ResponseEntity<BalanceSeriesDTO> balanceSeries(
+			@RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+			@RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate to,
+			@RequestParam(defaultValue = "day") String granularity,
+			WebRequest request) {
+		BalanceGranularity balanceGranularity = BalanceGranularity.valueOf(granularity.toUpperCase());
+		String etag = variantEtag(request, ResourceVersionService.TRANSACTIONS);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).body(service.balanceSeries(from, to, balanceGranularity));
 	}
 	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
 	@GetMapping("/{id}")
-	public TransactionDTO findById(@PathVariable Long id) {
-		return service.findById(id);
+	public ResponseEntity<Map<String, Object>> findById(@PathVariable Long id,
+			@RequestParam(required = false) String fields,
+			@RequestParam(required = false) String expand,
+			WebRequest request) {
+		TransactionFieldSelection selection = TransactionFieldSelection.of(fields, expand);
+		String etag = transactionsEtag(request);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).body(service.findById(id, selection));
+	}
+	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PostMapping("/import")
+	public TransactionImportResultDTO importTransactions(@RequestBody List<TransactionDTO> rows,
+			@RequestParam(required = false) Integer toleranceDays,
+			@RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+		return idempotencyService.execute(idempotencyKey, "POST /transactions/import", Arrays.asList(rows, toleranceDays),
+				TransactionImportResultDTO.class, () -> importService.importTransactions(rows, toleranceDays));
+	}
+	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PostMapping("/bulk")
+	public TransactionBulkResultDTO bulk(@RequestBody TransactionBulkDTO dto,
+			@RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+		return idempotencyService.execute(idempotencyKey, "POST /transactions/bulk", dto, TransactionBulkResultDTO.class,
+				() -> service.bulk(dto));
 	}
 	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
 	@PostMapping
-	public TransactionDTO insert(@RequestBody TransactionDTO dto) {
-		return service.insert(dto);
+	public TransactionDTO insert(@RequestBody TransactionDTO dto,
+			@RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+		return idempotencyService.execute(idempotencyKey, "POST /transactions", dto, TransactionDTO.class,
+				() -> service.insert(dto));
 	}
 	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
@@ -47,9 +170,32 @@ public class TransactionController {
 		return service.update(id, dto);
 	}
 	
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
+	@PatchMapping("/{id}")
+	public ResponseEntity<Void> patch(@PathVariable Long id, @RequestBody TransactionDTO dto) {
+		long version = service.patch(id, dto);
+		return ResponseEntity.noContent().eTag("\"" + version + "\"").build();
+	}
+	
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_CLIENT')")
 	@DeleteMapping("/{id}")
 	public void delete(@PathVariable Long id) {
 		service.delete(id);
 	}
+	
+	private String transactionsEtag(WebRequest request) {
+		return variantEtag(request, ResourceVersionService.TRANSACTIONS, ResourceVersionService.MEMBERS,
+				ResourceVersionService.CATEGORIES);
+	}
+
+	private String variantEtag(WebRequest request, String... resources) {
+		if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+			servletRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		}
+		StringBuilder variant = new StringBuilder(String.valueOf(request.getHeader(HttpHeaders.ACCEPT)));
+		new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+				variant.append('&').append(name).append('=').append(String.join(",", values)));
+		String etag = versionService.etag(resources);
+		return etag.substring(0, etag.length() - 1) + '-' + Integer.toHexString(variant.toString().hashCode()) + '"';
+	}
 }
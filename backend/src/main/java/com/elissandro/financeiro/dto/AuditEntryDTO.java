@@ -0,0 +1,68 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import com.elissandro.financeiro.entities.AuditEntry;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+public class AuditEntryDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Long id;
+	private Instant occurredAt;
+	private String actor;
+	private String resource;
+	private Long entityId;
+	private String action;
+	@JsonRawValue
+	private String before;
+	@JsonRawValue
+	private String after;
+
+	public AuditEntryDTO() {
+	}
+
+	public AuditEntryDTO(AuditEntry entity) {
+		this.id = entity.getId();
+		this.occurredAt = entity.getOccurredAt();
+		this.actor = entity.getActor();
+		this.resource = entity.getResource();
+		this.entityId = entity.getEntityId();
+		this.action = entity.getAction();
+		this.before = entity.getBeforeState();
+		this.after = entity.getAfterState();
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Instant getOccurredAt() {
+		return occurredAt;
+	}
+
+	public String getActor() {
+		return actor;
+	}
+
+	public String getResource() {
+		return resource;
+	}
+
+	public Long getEntityId() {
+		return entityId;
+	}
+
+	public String getAction() {
+		return action;
+	}
+
+	public String getBefore() {
+		return before;
+	}
+
+	public String getAfter() {
+		return after;
+	}
+}
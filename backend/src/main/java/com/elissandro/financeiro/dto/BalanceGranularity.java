@@ -0,0 +1,8 @@
+package com.elissandro.financeiro.dto;
+
+public enum BalanceGranularity {
+
+	DAY,
+	WEEK,
+	MONTH
+}
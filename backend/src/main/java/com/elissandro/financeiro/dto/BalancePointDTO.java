@@ -0,0 +1,47 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class BalancePointDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private LocalDate date;
+	private BigDecimal net;
+	private BigDecimal balance;
+
+	public BalancePointDTO() {
+	}
+
+	public BalancePointDTO(LocalDate date, BigDecimal net, BigDecimal balance) {
+		this.date = date;
+		this.net = net;
+		this.balance = balance;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public void setDate(LocalDate date) {
+		this.date = date;
+	}
+
+	public BigDecimal getNet() {
+		return net;
+	}
+
+	public void setNet(BigDecimal net) {
+		this.net = net;
+	}
+
+	public BigDecimal getBalance() {
+		return balance;
+	}
+
+	public void setBalance(BigDecimal balance) {
+		this.balance = balance;
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BalanceSeriesDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private LocalDate from;
+	private LocalDate to;
+	private BalanceGranularity granularity;
+	private BigDecimal openingBalance;
+	private BigDecimal closingBalance;
+
+	private List<BalancePointDTO> points = new ArrayList<>();
+
+	public BalanceSeriesDTO() {
+	}
+
+	public BalanceSeriesDTO(LocalDate from, LocalDate to, BalanceGranularity granularity, BigDecimal openingBalance,
+			BigDecimal closingBalance) {
+		this.from = from;
+		this.to = to;
+		this.granularity = granularity;
+		this.openingBalance = openingBalance;
+		this.closingBalance = closingBalance;
+	}
+
+	public LocalDate getFrom() {
+		return from;
+	}
+
+	public void setFrom(LocalDate from) {
+		this.from = from;
+	}
+
+	public LocalDate getTo() {
+		return to;
+	}
+
+	public void setTo(LocalDate to) {
+		this.to = to;
+	}
+
+	public BalanceGranularity getGranularity() {
+		return granularity;
+	}
+
+	public void setGranularity(BalanceGranularity granularity) {
+		this.granularity = granularity;
+	}
+
+	public BigDecimal getOpeningBalance() {
+		return openingBalance;
+	}
+
+	public void setOpeningBalance(BigDecimal openingBalance) {
+		this.openingBalance = openingBalance;
+	}
+
+	public BigDecimal getClosingBalance() {
+		return closingBalance;
+	}
+
+	public void setClosingBalance(BigDecimal closingBalance) {
+		this.closingBalance = closingBalance;
+	}
+
+	public List<BalancePointDTO> getPoints() {
+		return points;
+	}
+
+}
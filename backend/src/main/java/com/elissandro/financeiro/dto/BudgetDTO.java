@@ -0,0 +1,65 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import com.elissandro.financeiro.entities.Budget;
+
+public class BudgetDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Long id;
+	private BigDecimal amount;
+	private Long categoryId;
+	private Long memberId;
+
+	public BudgetDTO() {
+	}
+
+	public BudgetDTO(Long id, BigDecimal amount, Long categoryId, Long memberId) {
+		this.id = id;
+		this.amount = amount;
+		this.categoryId = categoryId;
+		this.memberId = memberId;
+	}
+
+	public BudgetDTO(Budget entity) {
+		this.id = entity.getId();
+		this.amount = entity.getAmount();
+		this.categoryId = entity.getCategory().getId();
+		this.memberId = entity.getMember() != null ? entity.getMember().getId() : null;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	public void setMemberId(Long memberId) {
+		this.memberId = memberId;
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.elissandro.financeiro.dto;
+
+public enum BudgetLevel {
+
+	OK,
+	WARNING,
+	EXCEEDED
+}
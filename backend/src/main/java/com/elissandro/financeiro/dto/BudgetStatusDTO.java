@@ -0,0 +1,108 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public class BudgetStatusDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Long budgetId;
+	private Long categoryId;
+	private Long memberId;
+	private YearMonth month;
+	private BigDecimal amount;
+	private BigDecimal spent;
+	private BigDecimal remaining;
+	private Integer percentage;
+	private BudgetLevel level;
+
+	public BudgetStatusDTO() {
+	}
+
+	public BudgetStatusDTO(BudgetDTO budget, YearMonth month, BigDecimal spent, BigDecimal remaining,
+			Integer percentage, BudgetLevel level) {
+		this.budgetId = budget.getId();
+		this.categoryId = budget.getCategoryId();
+		this.memberId = budget.getMemberId();
+		this.amount = budget.getAmount();
+		this.month = month;
+		this.spent = spent;
+		this.remaining = remaining;
+		this.percentage = percentage;
+		this.level = level;
+	}
+
+	public Long getBudgetId() {
+		return budgetId;
+	}
+
+	public void setBudgetId(Long budgetId) {
+		this.budgetId = budgetId;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	public void setMemberId(Long memberId) {
+		this.memberId = memberId;
+	}
+
+	public YearMonth getMonth() {
+		return month;
+	}
+
+	public void setMonth(YearMonth month) {
+		this.month = month;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public BigDecimal getSpent() {
+		return spent;
+	}
+
+	public void setSpent(BigDecimal spent) {
+		this.spent = spent;
+	}
+
+	public BigDecimal getRemaining() {
+		return remaining;
+	}
+
+	public void setRemaining(BigDecimal remaining) {
+		this.remaining = remaining;
+	}
+
+	public Integer getPercentage() {
+		return percentage;
+	}
+
+	public void setPercentage(Integer percentage) {
+		this.percentage = percentage;
+	}
+
+	public BudgetLevel getLevel() {
+		return level;
+	}
+
+	public void setLevel(BudgetLevel level) {
+		this.level = level;
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.elissandro.financeiro.dto;
+
+public enum BulkOperation {
+
+	RECATEGORIZE,
+	REASSIGN_MEMBER,
+	DELETE
+}
@@ -8,6 +8,7 @@ public class CategoryDTO implements Serializable {
 	private static final long serialVersionUID = 1L;
 	
 	private Long id;
+	private Long version;
 	private String name;
 	
 	public CategoryDTO() {
@@ -20,6 +21,7 @@ public class CategoryDTO implements Serializable {
 	
 	public CategoryDTO(Category entity) {
 		this.id = entity.getId();
+		this.version = entity.getVersion();
 		this.name =  entity.getName();
 	}
 
@@ -31,6 +33,14 @@ public class CategoryDTO implements Serializable {
 		this.id = id;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
 	public String getName() {
 		return name;
 	}
@@ -0,0 +1,67 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+
+import com.elissandro.financeiro.entities.CategoryRule;
+
+public class CategoryRuleDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Long id;
+	private String pattern;
+	private boolean regex;
+	private int priority;
+	private Long categoryId;
+
+	public CategoryRuleDTO() {
+	}
+
+	public CategoryRuleDTO(CategoryRule entity) {
+		this.id = entity.getId();
+		this.pattern = entity.getPattern();
+		this.regex = entity.isRegex();
+		this.priority = entity.getPriority();
+		this.categoryId = entity.getCategory().getId();
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getPattern() {
+		return pattern;
+	}
+
+	public void setPattern(String pattern) {
+		this.pattern = pattern;
+	}
+
+	public boolean isRegex() {
+		return regex;
+	}
+
+	public void setRegex(boolean regex) {
+		this.regex = regex;
+	}
+
+	public int getPriority() {
+		return priority;
+	}
+
+	public void setPriority(int priority) {
+		this.priority = priority;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+}
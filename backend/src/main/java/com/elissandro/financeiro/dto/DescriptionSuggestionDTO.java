@@ -0,0 +1,33 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+
+public class DescriptionSuggestionDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private String description;
+	private Long categoryId;
+	private int count;
+
+	public DescriptionSuggestionDTO() {
+	}
+
+	public DescriptionSuggestionDTO(String description, Long categoryId, int count) {
+		this.description = description;
+		this.categoryId = categoryId;
+		this.count = count;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+
+public class InstallmentDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Long planId;
+	private Integer number;
+	private Long transactionId;
+	private BigDecimal amount;
+	private String description;
+	private LocalDate date;
+	private TransactionType transactionType;
+	private Long categoryId;
+	private Long memberId;
+	private boolean materialized;
+
+	public InstallmentDTO() {
+	}
+
+	public InstallmentDTO(Transaction entity) {
+		this.planId = entity.getInstallmentPlan().getId();
+		this.number = entity.getInstallmentNumber();
+		this.transactionId = entity.getId();
+		this.amount = entity.getAmount();
+		this.description = entity.getDescription();
+		this.date = entity.getDate();
+		this.transactionType = entity.getTransactionType();
+		this.categoryId = entity.getCategory() != null ? entity.getCategory().getId() : null;
+		this.memberId = entity.getMember() != null ? entity.getMember().getId() : null;
+		this.materialized = entity.getId() != null;
+	}
+
+	public Long getPlanId() {
+		return planId;
+	}
+
+	public Integer getNumber() {
+		return number;
+	}
+
+	public Long getTransactionId() {
+		return transactionId;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public TransactionType getTransactionType() {
+		return transactionType;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	public boolean isMaterialized() {
+		return materialized;
+	}
+
+}
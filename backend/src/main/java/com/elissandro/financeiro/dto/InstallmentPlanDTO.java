@@ -0,0 +1,110 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.elissandro.financeiro.entities.InstallmentPlan;
+import com.elissandro.financeiro.entities.TransactionType;
+
+public class InstallmentPlanDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Long id;
+	private BigDecimal totalAmount;
+	private Integer installmentCount;
+	private LocalDate firstDueDate;
+	private LocalDate lastDueDate;
+	private String description;
+	private TransactionType transactionType;
+	private Long categoryId;
+	private Long memberId;
+
+	public InstallmentPlanDTO() {
+	}
+
+	public InstallmentPlanDTO(InstallmentPlan entity) {
+		this.id = entity.getId();
+		this.totalAmount = entity.getTotalAmount();
+		this.installmentCount = entity.getInstallmentCount();
+		this.firstDueDate = entity.getFirstDueDate();
+		this.lastDueDate = entity.getLastDueDate();
+		this.description = entity.getDescription();
+		this.transactionType = entity.getTransactionType();
+		this.categoryId = entity.getCategory().getId();
+		this.memberId = entity.getMember() != null ? entity.getMember().getId() : null;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public BigDecimal getTotalAmount() {
+		return totalAmount;
+	}
+
+	public void setTotalAmount(BigDecimal totalAmount) {
+		this.totalAmount = totalAmount;
+	}
+
+	public Integer getInstallmentCount() {
+		return installmentCount;
+	}
+
+	public void setInstallmentCount(Integer installmentCount) {
+		this.installmentCount = installmentCount;
+	}
+
+	public LocalDate getFirstDueDate() {
+		return firstDueDate;
+	}
+
+	public void setFirstDueDate(LocalDate firstDueDate) {
+		this.firstDueDate = firstDueDate;
+	}
+
+	public LocalDate getLastDueDate() {
+		return lastDueDate;
+	}
+
+	public void setLastDueDate(LocalDate lastDueDate) {
+		this.lastDueDate = lastDueDate;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public TransactionType getTransactionType() {
+		return transactionType;
+	}
+
+	public void setTransactionType(TransactionType transactionType) {
+		this.transactionType = transactionType;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	public void setMemberId(Long memberId) {
+		this.memberId = memberId;
+	}
+
+}
@@ -7,15 +7,19 @@ import java.util.List;
 
 import com.elissandro.financeiro.entities.Member;
 import com.elissandro.financeiro.entities.Transaction;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 public class MemberDTO implements Serializable {
 	private static final long serialVersionUID = 1L;
 
 	private Long id;
+	private Long version;
 	private String name;
 	private String role;
 	private LocalDate createdAt;
+	private LocalDate archivedAt;
 	
+	@JsonInclude(JsonInclude.Include.NON_EMPTY)
 	private List<Transaction> transactions = new ArrayList<>();
 	
 	public MemberDTO() {
@@ -30,9 +34,11 @@ public class MemberDTO implements Serializable {
 	
 	public MemberDTO(Member entity) {
 		this.id = entity.getId();
+		this.version = entity.getVersion();
 		this.name = entity.getName();
 		this.role = entity.getRole();
 		this.createdAt = entity.getCreatedAt();
+		this.archivedAt = entity.getArchivedAt();
 	}
 
 	public Long getId() {
@@ -43,6 +49,14 @@ public class MemberDTO implements Serializable {
 		this.id = id;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
 	public String getName() {
 		return name;
 	}
@@ -67,6 +81,14 @@ public class MemberDTO implements Serializable {
 		this.createdAt = createdAt;
 	}
 
+	public LocalDate getArchivedAt() {
+		return archivedAt;
+	}
+
+	public void setArchivedAt(LocalDate archivedAt) {
+		this.archivedAt = archivedAt;
+	}
+
 	public List<Transaction> getTransactions() {
 		return transactions;
 	}
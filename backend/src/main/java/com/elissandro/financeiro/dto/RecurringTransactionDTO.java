@@ -0,0 +1,140 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.elissandro.financeiro.entities.RecurringTransaction;
+import com.elissandro.financeiro.entities.TransactionType;
+
+public class RecurringTransactionDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Long id;
+	private BigDecimal amount;
+	private String description;
+	private TransactionType transactionType;
+	private Long categoryId;
+	private Long memberId;
+	private Integer dayOfMonth;
+	private Integer intervalMonths;
+	private LocalDate startDate;
+	private LocalDate endDate;
+	private LocalDate nextDueDate;
+	private boolean active = true;
+
+	public RecurringTransactionDTO() {
+	}
+
+	public RecurringTransactionDTO(RecurringTransaction entity) {
+		this.id = entity.getId();
+		this.amount = entity.getAmount();
+		this.description = entity.getDescription();
+		this.transactionType = entity.getTransactionType();
+		this.categoryId = entity.getCategory().getId();
+		this.memberId = entity.getMember() != null ? entity.getMember().getId() : null;
+		this.dayOfMonth = entity.getDayOfMonth();
+		this.intervalMonths = entity.getIntervalMonths();
+		this.startDate = entity.getStartDate();
+		this.endDate = entity.getEndDate();
+		this.nextDueDate = entity.getNextDueDate();
+		this.active = entity.isActive();
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public TransactionType getTransactionType() {
+		return transactionType;
+	}
+
+	public void setTransactionType(TransactionType transactionType) {
+		this.transactionType = transactionType;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	public void setMemberId(Long memberId) {
+		this.memberId = memberId;
+	}
+
+	public Integer getDayOfMonth() {
+		return dayOfMonth;
+	}
+
+	public void setDayOfMonth(Integer dayOfMonth) {
+		this.dayOfMonth = dayOfMonth;
+	}
+
+	public Integer getIntervalMonths() {
+		return intervalMonths;
+	}
+
+	public void setIntervalMonths(Integer intervalMonths) {
+		this.intervalMonths = intervalMonths;
+	}
+
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	public void setStartDate(LocalDate startDate) {
+		this.startDate = startDate;
+	}
+
+	public LocalDate getEndDate() {
+		return endDate;
+	}
+
+	public void setEndDate(LocalDate endDate) {
+		this.endDate = endDate;
+	}
+
+	public LocalDate getNextDueDate() {
+		return nextDueDate;
+	}
+
+	public void setNextDueDate(LocalDate nextDueDate) {
+		this.nextDueDate = nextDueDate;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public void setActive(boolean active) {
+		this.active = active;
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SyncChangesDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private List<CategoryDTO> categories = new ArrayList<>();
+	private List<MemberDTO> members = new ArrayList<>();
+	private List<TransactionDTO> transactions = new ArrayList<>();
+	private List<SyncDeletionDTO> deleted = new ArrayList<>();
+	private String nextToken;
+	private boolean hasMore;
+
+	public SyncChangesDTO() {
+	}
+
+	public List<CategoryDTO> getCategories() {
+		return categories;
+	}
+
+	public List<MemberDTO> getMembers() {
+		return members;
+	}
+
+	public List<TransactionDTO> getTransactions() {
+		return transactions;
+	}
+
+	public List<SyncDeletionDTO> getDeleted() {
+		return deleted;
+	}
+
+	public String getNextToken() {
+		return nextToken;
+	}
+
+	public void setNextToken(String nextToken) {
+		this.nextToken = nextToken;
+	}
+
+	public boolean isHasMore() {
+		return hasMore;
+	}
+
+	public void setHasMore(boolean hasMore) {
+		this.hasMore = hasMore;
+	}
+
+}
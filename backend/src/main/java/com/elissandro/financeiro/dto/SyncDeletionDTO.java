@@ -0,0 +1,34 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+
+import com.elissandro.financeiro.entities.SyncTombstone;
+
+public class SyncDeletionDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private String resource;
+	private Long id;
+
+	public SyncDeletionDTO() {
+	}
+
+	public SyncDeletionDTO(String resource, Long id) {
+		this.resource = resource;
+		this.id = id;
+	}
+
+	public SyncDeletionDTO(SyncTombstone entity) {
+		this.resource = entity.getResource();
+		this.id = entity.getEntityId();
+	}
+
+	public String getResource() {
+		return resource;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TransactionBulkDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private BulkOperation operation;
+	private List<Long> ids = new ArrayList<>();
+	private TransactionFilterDTO filter;
+	private Long categoryId;
+	private Long memberId;
+
+	public TransactionBulkDTO() {
+	}
+
+	public BulkOperation getOperation() {
+		return operation;
+	}
+
+	public void setOperation(BulkOperation operation) {
+		this.operation = operation;
+	}
+
+	public List<Long> getIds() {
+		return ids;
+	}
+
+	public void setIds(List<Long> ids) {
+		this.ids = ids;
+	}
+
+	public TransactionFilterDTO getFilter() {
+		return filter;
+	}
+
+	public void setFilter(TransactionFilterDTO filter) {
+		this.filter = filter;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	public void setMemberId(Long memberId) {
+		this.memberId = memberId;
+	}
+
+}
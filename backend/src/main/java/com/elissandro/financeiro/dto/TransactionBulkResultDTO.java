@@ -0,0 +1,27 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+
+public class TransactionBulkResultDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private BulkOperation operation;
+	private int affected;
+
+	public TransactionBulkResultDTO() {
+	}
+
+	public TransactionBulkResultDTO(BulkOperation operation, int affected) {
+		this.operation = operation;
+		this.affected = affected;
+	}
+
+	public BulkOperation getOperation() {
+		return operation;
+	}
+
+	public int getAffected() {
+		return affected;
+	}
+
+}
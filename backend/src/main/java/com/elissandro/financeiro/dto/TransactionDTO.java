@@ -1,8 +1,11 @@
 package com.elissandro.financeiro.dto;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.Hibernate;
+
 import com.elissandro.financeiro.entities.Transaction;
 import com.elissandro.financeiro.entities.TransactionType;
 
@@ -10,7 +13,8 @@ public class TransactionDTO implements Serializable {
 	private static final long serialVersionUID = 1L;
 	
 	private Long id;
-	private Double amount;
+	private Long version;
+	private BigDecimal amount;
 	private String description;
 	private LocalDate date;
 	private TransactionType transactionType;
@@ -23,7 +27,7 @@ public class TransactionDTO implements Serializable {
 	public TransactionDTO() {
 	}
 	
-	public TransactionDTO(Long id, Double amount, String description, LocalDate date, MemberDTO member, CategoryDTO category, TransactionType transactionType) {
+	public TransactionDTO(Long id, BigDecimal amount, String description, LocalDate date, MemberDTO member, CategoryDTO category, TransactionType transactionType) {
 		this.id = id;
 		this.amount = amount;
 		this.description = description;
@@ -35,13 +39,22 @@ public class TransactionDTO implements Serializable {
 	
 	public TransactionDTO(Transaction entity) {
 		this.id = entity.getId();
+		this.version = entity.getVersion();
 		this.amount = entity.getAmount();
 		this.description = entity.getDescription();
 		this.date = entity.getDate();
 		this.transactionType = entity.getTransactionType();
-		this.member = new MemberDTO(entity.getMember());
-		this.category = new CategoryDTO(entity.getCategory());
-		this.memberId = entity.getMember().getId();
+		if (entity.getCategory() != null) {
+			this.category = Hibernate.isInitialized(entity.getCategory())
+					? new CategoryDTO(entity.getCategory())
+					: new CategoryDTO(entity.getCategory().getId(), null);
+		}
+		if (entity.getMember() != null) {
+			this.member = Hibernate.isInitialized(entity.getMember())
+					? new MemberDTO(entity.getMember())
+					: new MemberDTO(entity.getMember().getId(), null, null, null);
+			this.memberId = entity.getMember().getId();
+		}
 	}
 
 	public Long getId() {
@@ -52,11 +65,19 @@ public class TransactionDTO implements Serializable {
 		this.id = id;
 	}
 
-	public Double getAmount() {
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public BigDecimal getAmount() {
 		return amount;
 	}
 
-	public void setAmount(Double amount) {
+	public void setAmount(BigDecimal amount) {
 		this.amount = amount;
 	}
 
@@ -0,0 +1,71 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+public class TransactionFilterDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Long categoryId;
+	private Long memberId;
+	private LocalDate from;
+	private LocalDate to;
+	private String description;
+
+	public TransactionFilterDTO() {
+	}
+
+	public TransactionFilterDTO(Long categoryId, Long memberId, LocalDate from, LocalDate to, String description) {
+		this.categoryId = categoryId;
+		this.memberId = memberId;
+		this.from = from;
+		this.to = to;
+		this.description = description;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	public void setMemberId(Long memberId) {
+		this.memberId = memberId;
+	}
+
+	public LocalDate getFrom() {
+		return from;
+	}
+
+	public void setFrom(LocalDate from) {
+		this.from = from;
+	}
+
+	public LocalDate getTo() {
+		return to;
+	}
+
+	public void setTo(LocalDate to) {
+		this.to = to;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public boolean isEmpty() {
+		return categoryId == null && memberId == null && from == null && to == null
+				&& (description == null || description.isBlank());
+	}
+
+}
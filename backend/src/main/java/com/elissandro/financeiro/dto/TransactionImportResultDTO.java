@@ -0,0 +1,35 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TransactionImportResultDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private int received;
+	private int inserted;
+	private List<Integer> duplicates = new ArrayList<>();
+
+	public TransactionImportResultDTO() {
+	}
+
+	public TransactionImportResultDTO(int received, int inserted, List<Integer> duplicates) {
+		this.received = received;
+		this.inserted = inserted;
+		this.duplicates = duplicates;
+	}
+
+	public int getReceived() {
+		return received;
+	}
+
+	public int getInserted() {
+		return inserted;
+	}
+
+	public List<Integer> getDuplicates() {
+		return duplicates;
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.elissandro.financeiro.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class TransactionSummaryDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private LocalDate from;
+	private LocalDate to;
+	private BigDecimal income;
+	private BigDecimal expense;
+	private BigDecimal balance;
+	private Long count;
+
+	public TransactionSummaryDTO() {
+	}
+
+	public TransactionSummaryDTO(LocalDate from, LocalDate to, BigDecimal income, BigDecimal expense,
+			BigDecimal balance, Long count) {
+		this.from = from;
+		this.to = to;
+		this.income = income;
+		this.expense = expense;
+		this.balance = balance;
+		this.count = count;
+	}
+
+	public LocalDate getFrom() {
+		return from;
+	}
+
+	public void setFrom(LocalDate from) {
+		this.from = from;
+	}
+
+	public LocalDate getTo() {
+		return to;
+	}
+
+	public void setTo(LocalDate to) {
+		this.to = to;
+	}
+
+	public BigDecimal getIncome() {
+		return income;
+	}
+
+	public void setIncome(BigDecimal income) {
+		this.income = income;
+	}
+
+	public BigDecimal getExpense() {
+		return expense;
+	}
+
+	public void setExpense(BigDecimal expense) {
+		this.expense = expense;
+	}
+
+	public BigDecimal getBalance() {
+		return balance;
+	}
+
+	public void setBalance(BigDecimal balance) {
+		this.balance = balance;
+	}
+
+	public Long getCount() {
+		return count;
+	}
+
+	public void setCount(Long count) {
+		this.count = count;
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.elissandro.financeiro.entities;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "audit_entries", indexes = {
+		@Index(name = "idx_audit_entries_entity", columnList = "resource, entity_id, occurred_at"),
+		@Index(name = "idx_audit_entries_actor", columnList = "actor, occurred_at"),
+		@Index(name = "idx_audit_entries_occurred_at", columnList = "occurred_at") })
+public class AuditEntry {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	@Column(nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+	private Instant occurredAt;
+	private String actor;
+	@Column(nullable = false, length = 32)
+	private String resource;
+	private Long entityId;
+	@Column(nullable = false, length = 16)
+	private String action;
+	@Column(columnDefinition = "TEXT")
+	private String beforeState;
+	@Column(columnDefinition = "TEXT")
+	private String afterState;
+
+	public AuditEntry() {
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Instant getOccurredAt() {
+		return occurredAt;
+	}
+
+	public String getActor() {
+		return actor;
+	}
+
+	public String getResource() {
+		return resource;
+	}
+
+	public Long getEntityId() {
+		return entityId;
+	}
+
+	public String getAction() {
+		return action;
+	}
+
+	public String getBeforeState() {
+		return beforeState;
+	}
+
+	public String getAfterState() {
+		return afterState;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		AuditEntry other = (AuditEntry) obj;
+		return Objects.equals(id, other.id);
+	}
+}
@@ -3,20 +3,34 @@ package com.elissandro.financeiro.entities;
 import java.io.Serializable;
 import java.util.Objects;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.elissandro.financeiro.services.SyncVersionListener;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "categories")
+@EntityListeners(SyncVersionListener.class)
+@Table(name = "categories", indexes = @Index(name = "idx_categories_change_version", columnList = "change_version"))
 public class Category implements Serializable {
 	private static final long serialVersionUID = 1L;
 	
 	@Id	
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
+	private Long changeVersion;
+	@Version
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	private Long version;
 	private String name;
 	
 	public Category() {
@@ -35,6 +49,22 @@ public class Category implements Serializable {
 		this.id = id;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public Long getChangeVersion() {
+		return changeVersion;
+	}
+
+	public void setChangeVersion(Long changeVersion) {
+		this.changeVersion = changeVersion;
+	}
+
 	public String getName() {
 		return name;
 	}
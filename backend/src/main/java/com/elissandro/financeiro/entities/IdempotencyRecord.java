@@ -0,0 +1,61 @@
+package com.elissandro.financeiro.entities;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+public class IdempotencyRecord {
+
+	@Id
+	@Column(length = 64)
+	private String id;
+	@Column(nullable = false, length = 64)
+	private String requestHash;
+	@Column(columnDefinition = "TEXT")
+	private String response;
+	@Column(nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+	private Instant createdAt;
+
+	public IdempotencyRecord() {
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getRequestHash() {
+		return requestHash;
+	}
+
+	public String getResponse() {
+		return response;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		IdempotencyRecord other = (IdempotencyRecord) obj;
+		return Objects.equals(id, other.id);
+	}
+}
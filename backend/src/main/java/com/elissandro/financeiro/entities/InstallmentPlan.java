@@ -0,0 +1,133 @@
+package com.elissandro.financeiro.entities;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "installment_plans", indexes = @Index(name = "idx_installment_plans_due", columnList = "first_due_date, last_due_date"))
+public class InstallmentPlan implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	@Column(precision = 19, scale = 2, nullable = false)
+	private BigDecimal totalAmount;
+	private Integer installmentCount;
+	private LocalDate firstDueDate;
+	private LocalDate lastDueDate;
+	private String description;
+	private TransactionType transactionType;
+
+	@ManyToOne
+	@JoinColumn(nullable = false)
+	private Category category;
+
+	@ManyToOne
+	private Member member;
+
+	public InstallmentPlan() {
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public BigDecimal getTotalAmount() {
+		return totalAmount;
+	}
+
+	public void setTotalAmount(BigDecimal totalAmount) {
+		this.totalAmount = totalAmount;
+	}
+
+	public Integer getInstallmentCount() {
+		return installmentCount;
+	}
+
+	public void setInstallmentCount(Integer installmentCount) {
+		this.installmentCount = installmentCount;
+	}
+
+	public LocalDate getFirstDueDate() {
+		return firstDueDate;
+	}
+
+	public void setFirstDueDate(LocalDate firstDueDate) {
+		this.firstDueDate = firstDueDate;
+	}
+
+	public LocalDate getLastDueDate() {
+		return lastDueDate;
+	}
+
+	public void setLastDueDate(LocalDate lastDueDate) {
+		this.lastDueDate = lastDueDate;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public TransactionType getTransactionType() {
+		return transactionType;
+	}
+
+	public void setTransactionType(TransactionType transactionType) {
+		this.transactionType = transactionType;
+	}
+
+	public Category getCategory() {
+		return category;
+	}
+
+	public void setCategory(Category category) {
+		this.category = category;
+	}
+
+	public Member getMember() {
+		return member;
+	}
+
+	public void setMember(Member member) {
+		this.member = member;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		InstallmentPlan other = (InstallmentPlan) obj;
+		return Objects.equals(id, other.id);
+	}
+
+}
@@ -5,24 +5,41 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.elissandro.financeiro.services.SyncVersionListener;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "members")
+@EntityListeners(SyncVersionListener.class)
+@Table(name = "members", indexes = {
+		@Index(name = "idx_members_change_version", columnList = "change_version"),
+		@Index(name = "idx_members_archived_at", columnList = "archived_at") })
 public class Member implements Serializable {
 	private static final long serialVersionUID = 1L;
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
+	private Long changeVersion;
+	@Version
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	private Long version;
 	private String name;
 	private String role;
 	private LocalDate createdAt;
+	private LocalDate archivedAt;
 	
 	@OneToMany(mappedBy = "member")
 	private List<Transaction> transactions;
@@ -45,6 +62,22 @@ public class Member implements Serializable {
 		this.id = id;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public Long getChangeVersion() {
+		return changeVersion;
+	}
+
+	public void setChangeVersion(Long changeVersion) {
+		this.changeVersion = changeVersion;
+	}
+
 	public String getName() {
 		return name;
 	}
@@ -69,6 +102,14 @@ public class Member implements Serializable {
 		this.createdAt = createdAt;
 	}
 
+	public LocalDate getArchivedAt() {
+		return archivedAt;
+	}
+
+	public void setArchivedAt(LocalDate archivedAt) {
+		this.archivedAt = archivedAt;
+	}
+
 	public List<Transaction> getTransactions() {
 		return transactions;
 	}
@@ -0,0 +1,69 @@
+package com.elissandro.financeiro.entities;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "scheduler_leases")
+public class SchedulerLease {
+
+	@Id
+	private String name;
+	private String owner;
+	private Instant expiresAt;
+
+	public SchedulerLease() {
+	}
+
+	public SchedulerLease(String name, String owner, Instant expiresAt) {
+		this.name = name;
+		this.owner = owner;
+		this.expiresAt = expiresAt;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getOwner() {
+		return owner;
+	}
+
+	public void setOwner(String owner) {
+		this.owner = owner;
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+
+	public void setExpiresAt(Instant expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(name);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SchedulerLease other = (SchedulerLease) obj;
+		return Objects.equals(name, other.name);
+	}
+
+}
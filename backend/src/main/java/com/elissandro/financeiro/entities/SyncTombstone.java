@@ -0,0 +1,77 @@
+package com.elissandro.financeiro.entities;
+
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "sync_tombstones",
+		indexes = @Index(name = "idx_sync_tombstones_version", columnList = "id, resource, entity_id"))
+public class SyncTombstone {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sync_version")
+	@SequenceGenerator(name = "sync_version", sequenceName = "sync_version_seq", allocationSize = 1)
+	private Long id;
+	@Column(nullable = false, length = 32)
+	private String resource;
+	@Column(nullable = false)
+	private Long entityId;
+
+	public SyncTombstone() {
+	}
+
+	public SyncTombstone(Long id, String resource, Long entityId) {
+		this.id = id;
+		this.resource = resource;
+		this.entityId = entityId;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getResource() {
+		return resource;
+	}
+
+	public void setResource(String resource) {
+		this.resource = resource;
+	}
+
+	public Long getEntityId() {
+		return entityId;
+	}
+
+	public void setEntityId(Long entityId) {
+		this.entityId = entityId;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SyncTombstone other = (SyncTombstone) obj;
+		return Objects.equals(id, other.id);
+	}
+}
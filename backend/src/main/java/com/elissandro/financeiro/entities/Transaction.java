@@ -1,26 +1,51 @@
 package com.elissandro.financeiro.entities;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Objects;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.elissandro.financeiro.services.SyncVersionListener;
+import com.elissandro.financeiro.util.Fingerprints;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "transactions")
+@EntityListeners(SyncVersionListener.class)
+@Table(name = "transactions",
+		uniqueConstraints = @UniqueConstraint(columnNames = { "installment_plan_id", "installment_number" }),
+		indexes = {
+				@Index(name = "idx_transactions_fingerprint", columnList = "fingerprint, date"),
+				@Index(name = "idx_transactions_change_version", columnList = "change_version"),
+				@Index(name = "idx_transactions_date", columnList = "date, transaction_type") })
 public class Transaction implements Serializable {
 	private static final long serialVersionUID = 1L;
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
-	private Double amount;
+	private Long changeVersion;
+	@Version
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	private Long version;
+	@Column(precision = 19, scale = 2)
+	private BigDecimal amount;
 	private String description;
 	@Column(columnDefinition = "TIMESTAMP WITH TIME ZONE")
 	private LocalDate date;
@@ -32,11 +57,17 @@ public class Transaction implements Serializable {
 	@ManyToOne
 	private Category category;
 	
+	@ManyToOne(fetch = FetchType.LAZY)
+	private InstallmentPlan installmentPlan;
+	private Integer installmentNumber;
+	@Column(length = 32)
+	private String fingerprint;
+	
 	public Transaction() {
 		
 	}
 	
-	public Transaction(Long id, Double amount, String description, LocalDate date, Category category, Member member, TransactionType transactionType) {
+	public Transaction(Long id, BigDecimal amount, String description, LocalDate date, Category category, Member member, TransactionType transactionType) {
 		this.id = id;
 		this.amount = amount;
 		this.description = description;
@@ -54,11 +85,27 @@ public class Transaction implements Serializable {
 		this.id = id;
 	}
 
-	public Double getAmount() {
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public Long getChangeVersion() {
+		return changeVersion;
+	}
+
+	public void setChangeVersion(Long changeVersion) {
+		this.changeVersion = changeVersion;
+	}
+
+	public BigDecimal getAmount() {
 		return amount;
 	}
 
-	public void setAmount(Double amount) {
+	public void setAmount(BigDecimal amount) {
 		this.amount = amount;
 	}
 
@@ -99,6 +146,32 @@ public class Transaction implements Serializable {
 		this.member = member;
 	}
 
+	public InstallmentPlan getInstallmentPlan() {
+		return installmentPlan;
+	}
+
+	public void setInstallmentPlan(InstallmentPlan installmentPlan) {
+		this.installmentPlan = installmentPlan;
+	}
+
+	public Integer getInstallmentNumber() {
+		return installmentNumber;
+	}
+
+	public void setInstallmentNumber(Integer installmentNumber) {
+		this.installmentNumber = installmentNumber;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	@PrePersist
+	@PreUpdate
+	public void updateFingerprint() {
+		this.fingerprint = Fingerprints.of(amount, description);
+	}
+
 	public TransactionType getTransactionType() {
 		return transactionType;
 	}
@@ -0,0 +1,31 @@
+package com.elissandro.financeiro.events;
+
+import java.math.BigDecimal;
+
+import com.elissandro.financeiro.dto.BudgetDTO;
+import com.elissandro.financeiro.dto.BudgetLevel;
+
+public class BudgetAlertEvent {
+
+	private final BudgetDTO budget;
+	private final BudgetLevel level;
+	private final BigDecimal spent;
+
+	public BudgetAlertEvent(BudgetDTO budget, BudgetLevel level, BigDecimal spent) {
+		this.budget = budget;
+		this.level = level;
+		this.spent = spent;
+	}
+
+	public BudgetDTO getBudget() {
+		return budget;
+	}
+
+	public BudgetLevel getLevel() {
+		return level;
+	}
+
+	public BigDecimal getSpent() {
+		return spent;
+	}
+}
@@ -0,0 +1,5 @@
+package com.elissandro.financeiro.events;
+
+public enum ChangeAction {
+	CREATED, UPDATED, DELETED, INVALIDATED
+}
@@ -0,0 +1,30 @@
+package com.elissandro.financeiro.events;
+
+public class EntityChangeEvent {
+
+	private final String resource;
+	private final ChangeAction action;
+	private final Long id;
+
+	public EntityChangeEvent(String resource, ChangeAction action, Long id) {
+		this.resource = resource;
+		this.action = action;
+		this.id = id;
+	}
+
+	public static EntityChangeEvent invalidated(String resource) {
+		return new EntityChangeEvent(resource, ChangeAction.INVALIDATED, null);
+	}
+
+	public String getResource() {
+		return resource;
+	}
+
+	public ChangeAction getAction() {
+		return action;
+	}
+
+	public Long getId() {
+		return id;
+	}
+}
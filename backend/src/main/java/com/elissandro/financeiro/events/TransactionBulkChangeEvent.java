@@ -0,0 +1,14 @@
+package com.elissandro.financeiro.events;
+
+public class TransactionBulkChangeEvent {
+
+	private final int affected;
+
+	public TransactionBulkChangeEvent(int affected) {
+		this.affected = affected;
+	}
+
+	public int getAffected() {
+		return affected;
+	}
+}
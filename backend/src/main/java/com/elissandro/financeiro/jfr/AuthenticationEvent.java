@@ -0,0 +1,23 @@
+package com.elissandro.financeiro.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.elissandro.financeiro.Authentication")
+@Label("Password Authentication")
+@Category({ "Financeiro", "Security" })
+@Description("Password grant handled by CustomPasswordAuthenticationProvider")
+public class AuthenticationEvent extends Event {
+
+	@Label("Password Check Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long passwordCheckTime;
+
+	@Label("Success")
+	public boolean success;
+
+}
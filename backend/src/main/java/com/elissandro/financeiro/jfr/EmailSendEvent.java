@@ -0,0 +1,18 @@
+package com.elissandro.financeiro.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.elissandro.financeiro.EmailSend")
+@Label("Email Send")
+@Category({ "Financeiro", "Services" })
+@Description("Email sent by EmailService")
+public class EmailSendEvent extends Event {
+
+	@Label("Success")
+	public boolean success;
+
+}
@@ -0,0 +1,18 @@
+package com.elissandro.financeiro.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.elissandro.financeiro.JwtDecode")
+@Label("JWT Decode")
+@Category({ "Financeiro", "Security" })
+@Description("Bearer token decoded by the resource server")
+public class JwtDecodeEvent extends Event {
+
+	@Label("Success")
+	public boolean success;
+
+}
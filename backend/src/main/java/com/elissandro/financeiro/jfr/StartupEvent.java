@@ -0,0 +1,31 @@
+package com.elissandro.financeiro.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.elissandro.financeiro.Startup")
+@Label("Application Startup")
+@Category({ "Financeiro", "Startup" })
+@Description("Boot time measured when the application is ready to serve requests")
+public class StartupEvent extends Event {
+
+	@Label("JVM Uptime")
+	@Timespan(Timespan.MILLISECONDS)
+	public long jvmUptime;
+
+	@Label("Context Ready Time")
+	@Timespan(Timespan.MILLISECONDS)
+	public long contextReadyTime;
+
+	@Label("Migration Time")
+	@Timespan(Timespan.MILLISECONDS)
+	public long migrationTime;
+
+	@Label("Migrations Applied")
+	public int migrationsApplied;
+
+}
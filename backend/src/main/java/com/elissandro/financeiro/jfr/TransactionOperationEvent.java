@@ -0,0 +1,21 @@
+package com.elissandro.financeiro.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.elissandro.financeiro.TransactionOperation")
+@Label("Transaction Operation")
+@Category({ "Financeiro", "Services" })
+@Description("Operation executed by TransactionService")
+public class TransactionOperationEvent extends Event {
+
+	@Label("Operation")
+	public String operation;
+
+	@Label("Row Count")
+	public int rowCount;
+
+}
@@ -0,0 +1,10 @@
+package com.elissandro.financeiro.projections;
+
+import java.math.BigDecimal;
+
+public interface CategoryMemberTotalProjection {
+
+	Long getCategoryId();
+	Long getMemberId();
+	BigDecimal getTotal();
+}
@@ -0,0 +1,8 @@
+package com.elissandro.financeiro.projections;
+
+public interface DescriptionCategoryCountProjection {
+
+	String getDescription();
+	Long getCategoryId();
+	Long getCount();
+}
@@ -0,0 +1,7 @@
+package com.elissandro.financeiro.projections;
+
+public interface InstallmentNumberProjection {
+
+	Long getPlanId();
+	Integer getInstallmentNumber();
+}
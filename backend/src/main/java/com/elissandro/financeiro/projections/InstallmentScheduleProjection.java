@@ -0,0 +1,11 @@
+package com.elissandro.financeiro.projections;
+
+import java.time.LocalDate;
+
+public interface InstallmentScheduleProjection {
+
+	Long getId();
+	LocalDate getFirstDueDate();
+	LocalDate getLastDueDate();
+	Integer getInstallmentCount();
+}
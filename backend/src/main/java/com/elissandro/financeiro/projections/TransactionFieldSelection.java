@@ -0,0 +1,79 @@
+package com.elissandro.financeiro.projections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class TransactionFieldSelection {
+
+	public static final List<String> FIELDS = List.of("id", "amount", "description", "date", "transactionType",
+			"memberId", "categoryId", "version");
+
+	private final List<String> fields;
+	private final boolean expandMember;
+	private final boolean expandCategory;
+
+	private TransactionFieldSelection(List<String> fields, boolean expandMember, boolean expandCategory) {
+		this.fields = fields;
+		this.expandMember = expandMember;
+		this.expandCategory = expandCategory;
+	}
+
+	public static TransactionFieldSelection of(String fields, String expand) {
+		List<String> selected = new ArrayList<>();
+		if (fields == null || fields.isBlank()) {
+			selected.addAll(FIELDS);
+		} else {
+			List<String> requested = split(fields);
+			for (String field : requested) {
+				if (!FIELDS.contains(field)) {
+					throw new IllegalArgumentException("Unknown field: " + field);
+				}
+			}
+			FIELDS.stream().filter(requested::contains).forEach(selected::add);
+		}
+
+		boolean expandMember = false;
+		boolean expandCategory = false;
+		if (expand != null && !expand.isBlank()) {
+			for (String relation : split(expand)) {
+				if (relation.equals("member")) {
+					expandMember = true;
+				} else if (relation.equals("category")) {
+					expandCategory = true;
+				} else {
+					throw new IllegalArgumentException("Unknown expand: " + relation);
+				}
+			}
+		}
+		return new TransactionFieldSelection(Collections.unmodifiableList(selected), expandMember, expandCategory);
+	}
+
+	public TransactionFieldSelection including(Collection<String> extra) {
+		List<String> selected = FIELDS.stream().filter(field -> fields.contains(field) || extra.contains(field)).toList();
+		return new TransactionFieldSelection(selected, expandMember, expandCategory);
+	}
+
+	private static List<String> split(String value) {
+		List<String> result = new ArrayList<>();
+		for (String item : value.split(",")) {
+			if (!item.isBlank()) {
+				result.add(item.trim());
+			}
+		}
+		return result;
+	}
+
+	public List<String> getFields() {
+		return fields;
+	}
+
+	public boolean isExpandMember() {
+		return expandMember;
+	}
+
+	public boolean isExpandCategory() {
+		return expandCategory;
+	}
+}
@@ -0,0 +1,10 @@
+package com.elissandro.financeiro.projections;
+
+import java.time.LocalDate;
+
+public interface TransactionFingerprintProjection {
+
+	String getFingerprint();
+	Long getMemberId();
+	LocalDate getDate();
+}
@@ -0,0 +1,12 @@
+package com.elissandro.financeiro.projections;
+
+import java.math.BigDecimal;
+
+import com.elissandro.financeiro.entities.TransactionType;
+
+public interface TransactionTotalProjection {
+
+	TransactionType getTransactionType();
+	BigDecimal getTotal();
+	Long getCount();
+}
@@ -0,0 +1,24 @@
+package com.elissandro.financeiro.repositories;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.elissandro.financeiro.entities.AuditEntry;
+
+public interface AuditEntryRepository extends JpaRepository<AuditEntry, Long> {
+
+	@Query("""
+			SELECT obj FROM AuditEntry obj
+			WHERE (:resource IS NULL OR obj.resource = :resource)
+				AND (:entityId IS NULL OR obj.entityId = :entityId)
+				AND (:actor IS NULL OR obj.actor = :actor)
+				AND obj.occurredAt >= :from AND obj.occurredAt < :to
+			ORDER BY obj.occurredAt DESC, obj.id DESC
+		""")
+	Page<AuditEntry> search(String resource, Long entityId, String actor, Instant from, Instant to, Pageable pageable);
+
+}
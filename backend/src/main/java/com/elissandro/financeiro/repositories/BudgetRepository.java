@@ -0,0 +1,23 @@
+package com.elissandro.financeiro.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.elissandro.financeiro.entities.Budget;
+
+public interface BudgetRepository extends JpaRepository<Budget, Long> {
+
+	@Modifying
+	@Query("DELETE FROM Budget obj WHERE obj.id = :id")
+	int deleteRow(Long id);
+
+	@Modifying
+	@Query(nativeQuery = true, value = "UPDATE budgets SET category_id = :target WHERE category_id = :source")
+	int reassignCategory(Long source, Long target);
+
+	@Modifying
+	@Query(nativeQuery = true, value = "UPDATE budgets SET member_id = :target WHERE member_id = :source")
+	int reassignMember(Long source, Long target);
+
+}
@@ -1,9 +1,20 @@
 package com.elissandro.financeiro.repositories;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.elissandro.financeiro.entities.Category;
 
-public interface CategoryRepository extends JpaRepository<Category, Long> { 
+public interface CategoryRepository extends JpaRepository<Category, Long>, CategoryRepositoryCustom { 
+
+	List<Category> findByChangeVersionGreaterThanOrderByChangeVersionAsc(Long since, Pageable pageable);
+
+	@Modifying
+	@Query("DELETE FROM Category obj WHERE obj.id = :id")
+	int deleteRow(Long id);
 
 }
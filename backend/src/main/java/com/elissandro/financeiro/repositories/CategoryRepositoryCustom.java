@@ -0,0 +1,12 @@
+package com.elissandro.financeiro.repositories;
+
+import java.util.Optional;
+
+import com.elissandro.financeiro.entities.Category;
+
+public interface CategoryRepositoryCustom {
+
+	Optional<Category> patchReturning(Long id, Long version, String name, Long changeVersion);
+
+	Optional<Category> deleteReturning(Long id);
+}
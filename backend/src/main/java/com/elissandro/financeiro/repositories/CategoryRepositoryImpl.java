@@ -0,0 +1,75 @@
+package com.elissandro.financeiro.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.elissandro.financeiro.entities.Category;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class CategoryRepositoryImpl implements CategoryRepositoryCustom {
+
+	private static final String COLUMNS = "id, name, version, change_version";
+
+	private static final String POSTGRES_PATCH = """
+			UPDATE categories c SET name = COALESCE(CAST(:name AS VARCHAR), old.name), version = old.version + 1,
+				change_version = :changeVersion
+			FROM (SELECT id, name, version, change_version FROM categories
+				WHERE id = :id AND version = :version FOR UPDATE) old
+			WHERE c.id = old.id
+			RETURNING old.id, old.name, old.version, old.change_version
+			""";
+
+	private static final String H2_PATCH = "SELECT " + COLUMNS + """
+			 FROM OLD TABLE (UPDATE categories SET name = COALESCE(CAST(:name AS VARCHAR), name),
+				version = version + 1, change_version = :changeVersion
+			WHERE id = :id AND version = :version)
+			""";
+
+	private static final String POSTGRES_DELETE = "DELETE FROM categories WHERE id = :id RETURNING " + COLUMNS;
+
+	private static final String H2_DELETE = "SELECT " + COLUMNS + " FROM OLD TABLE (DELETE FROM categories WHERE id = :id)";
+
+	@PersistenceContext
+	private EntityManager em;
+
+	private Boolean postgres;
+
+	@Override
+	public Optional<Category> patchReturning(Long id, Long version, String name, Long changeVersion) {
+		List<?> rows = em.createNativeQuery(isPostgres() ? POSTGRES_PATCH : H2_PATCH)
+				.setParameter("id", id)
+				.setParameter("version", version)
+				.setParameter("name", name)
+				.setParameter("changeVersion", changeVersion)
+				.getResultList();
+		return rows.stream().findFirst().map(row -> toCategory((Object[]) row));
+	}
+
+	@Override
+	public Optional<Category> deleteReturning(Long id) {
+		List<?> rows = em.createNativeQuery(isPostgres() ? POSTGRES_DELETE : H2_DELETE)
+				.setParameter("id", id)
+				.getResultList();
+		return rows.stream().findFirst().map(row -> toCategory((Object[]) row));
+	}
+
+	private boolean isPostgres() {
+		if (postgres == null) {
+			postgres = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices()
+					.getDialect() instanceof PostgreSQLDialect;
+		}
+		return postgres;
+	}
+
+	private static Category toCategory(Object[] row) {
+		Category category = new Category(((Number) row[0]).longValue(), (String) row[1]);
+		category.setVersion(row[2] != null ? ((Number) row[2]).longValue() : null);
+		category.setChangeVersion(row[3] != null ? ((Number) row[3]).longValue() : null);
+		return category;
+	}
+}
@@ -0,0 +1,19 @@
+package com.elissandro.financeiro.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.elissandro.financeiro.entities.CategoryRule;
+
+public interface CategoryRuleRepository extends JpaRepository<CategoryRule, Long> {
+
+	@Modifying
+	@Query("DELETE FROM CategoryRule obj WHERE obj.id = :id")
+	int deleteRow(Long id);
+
+	@Modifying
+	@Query(nativeQuery = true, value = "UPDATE category_rules SET category_id = :target WHERE category_id = :source")
+	int reassignCategory(Long source, Long target);
+
+}
@@ -0,0 +1,27 @@
+package com.elissandro.financeiro.repositories;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.elissandro.financeiro.entities.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+	@Modifying
+	@Query(nativeQuery = true, value = """
+			INSERT INTO idempotency_keys (id, request_hash, created_at) VALUES (:id, :requestHash, :createdAt)
+		""")
+	int claim(String id, String requestHash, Instant createdAt);
+
+	@Modifying
+	@Query("UPDATE IdempotencyRecord obj SET obj.response = :response WHERE obj.id = :id")
+	int complete(String id, String response);
+
+	@Modifying
+	@Query("DELETE FROM IdempotencyRecord obj WHERE obj.createdAt < :before")
+	int deleteExpired(Instant before);
+
+}
@@ -0,0 +1,36 @@
+package com.elissandro.financeiro.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.elissandro.financeiro.entities.InstallmentPlan;
+import com.elissandro.financeiro.projections.InstallmentScheduleProjection;
+
+public interface InstallmentPlanRepository extends JpaRepository<InstallmentPlan, Long> {
+
+	@Query("SELECT obj FROM InstallmentPlan obj WHERE obj.firstDueDate <= :to AND obj.lastDueDate >= :from")
+	List<InstallmentPlan> findOverlapping(LocalDate from, LocalDate to);
+
+	@Query("SELECT obj FROM InstallmentPlan obj WHERE obj.firstDueDate < :date")
+	List<InstallmentPlan> findStartedBefore(LocalDate date);
+
+	@Query("""
+			SELECT obj.id AS id, obj.firstDueDate AS firstDueDate, obj.lastDueDate AS lastDueDate,
+				obj.installmentCount AS installmentCount
+			FROM InstallmentPlan obj
+		""")
+	List<InstallmentScheduleProjection> findSchedules();
+
+	@Modifying
+	@Query(nativeQuery = true, value = "UPDATE installment_plans SET category_id = :target WHERE category_id = :source")
+	int reassignCategory(Long source, Long target);
+
+	@Modifying
+	@Query(nativeQuery = true, value = "UPDATE installment_plans SET member_id = :target WHERE member_id = :source")
+	int reassignMember(Long source, Long target);
+
+}
@@ -1,9 +1,31 @@
 package com.elissandro.financeiro.repositories;
 
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.elissandro.financeiro.entities.Member;
 
-public interface MemberRepository extends JpaRepository<Member, Long> { 
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom { 
+
+	List<Member> findByArchivedAtIsNull();
+
+	List<Member> findByChangeVersionGreaterThanOrderByChangeVersionAsc(Long since, Pageable pageable);
+
+	@Modifying
+	@Query("""
+			UPDATE Member obj SET obj.archivedAt = :archivedAt, obj.version = obj.version + 1,
+				obj.changeVersion = :changeVersion
+			WHERE obj.id = :id AND obj.archivedAt IS NULL
+		""")
+	int archive(Long id, LocalDate archivedAt, Long changeVersion);
+
+	@Modifying
+	@Query("DELETE FROM Member obj WHERE obj.id = :id")
+	int deleteRow(Long id);
 
 }
@@ -0,0 +1,12 @@
+package com.elissandro.financeiro.repositories;
+
+import java.util.Optional;
+
+import com.elissandro.financeiro.entities.Member;
+
+public interface MemberRepositoryCustom {
+
+	Optional<Member> patchReturning(Long id, Long version, String name, String role, Long changeVersion);
+
+	Optional<Member> deleteReturning(Long id);
+}
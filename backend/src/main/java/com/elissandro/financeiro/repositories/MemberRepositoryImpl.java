@@ -0,0 +1,85 @@
+package com.elissandro.financeiro.repositories;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.elissandro.financeiro.entities.Member;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+
+	private static final String COLUMNS = "id, name, role, created_at, archived_at, version, change_version";
+
+	private static final String POSTGRES_PATCH = """
+			UPDATE members m SET name = COALESCE(CAST(:name AS VARCHAR), old.name),
+				role = COALESCE(CAST(:role AS VARCHAR), old.role), version = old.version + 1,
+				change_version = :changeVersion
+			FROM (SELECT id, name, role, created_at, archived_at, version, change_version FROM members
+				WHERE id = :id AND version = :version FOR UPDATE) old
+			WHERE m.id = old.id
+			RETURNING old.id, old.name, old.role, old.created_at, old.archived_at, old.version, old.change_version
+			""";
+
+	private static final String H2_PATCH = "SELECT " + COLUMNS + """
+			 FROM OLD TABLE (UPDATE members SET name = COALESCE(CAST(:name AS VARCHAR), name),
+				role = COALESCE(CAST(:role AS VARCHAR), role), version = version + 1, change_version = :changeVersion
+			WHERE id = :id AND version = :version)
+			""";
+
+	private static final String POSTGRES_DELETE = "DELETE FROM members WHERE id = :id RETURNING " + COLUMNS;
+
+	private static final String H2_DELETE = "SELECT " + COLUMNS + " FROM OLD TABLE (DELETE FROM members WHERE id = :id)";
+
+	@PersistenceContext
+	private EntityManager em;
+
+	private Boolean postgres;
+
+	@Override
+	public Optional<Member> patchReturning(Long id, Long version, String name, String role, Long changeVersion) {
+		List<?> rows = em.createNativeQuery(isPostgres() ? POSTGRES_PATCH : H2_PATCH)
+				.setParameter("id", id)
+				.setParameter("version", version)
+				.setParameter("name", name)
+				.setParameter("role", role)
+				.setParameter("changeVersion", changeVersion)
+				.getResultList();
+		return rows.stream().findFirst().map(row -> toMember((Object[]) row));
+	}
+
+	@Override
+	public Optional<Member> deleteReturning(Long id) {
+		List<?> rows = em.createNativeQuery(isPostgres() ? POSTGRES_DELETE : H2_DELETE)
+				.setParameter("id", id)
+				.getResultList();
+		return rows.stream().findFirst().map(row -> toMember((Object[]) row));
+	}
+
+	private boolean isPostgres() {
+		if (postgres == null) {
+			postgres = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices()
+					.getDialect() instanceof PostgreSQLDialect;
+		}
+		return postgres;
+	}
+
+	private static Member toMember(Object[] row) {
+		Member member = new Member(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+				toLocalDate(row[3]));
+		member.setArchivedAt(toLocalDate(row[4]));
+		member.setVersion(row[5] != null ? ((Number) row[5]).longValue() : null);
+		member.setChangeVersion(row[6] != null ? ((Number) row[6]).longValue() : null);
+		return member;
+	}
+
+	private static LocalDate toLocalDate(Object value) {
+		return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+	}
+}
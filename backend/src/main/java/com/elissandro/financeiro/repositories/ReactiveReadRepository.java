@@ -0,0 +1,85 @@
+package com.elissandro.financeiro.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.elissandro.financeiro.dto.CategoryDTO;
+import com.elissandro.financeiro.dto.MemberDTO;
+import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.entities.TransactionType;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reactive")
+public class ReactiveReadRepository {
+
+	private static final String TRANSACTION_QUERY = """
+			SELECT t.id, t.amount, t.description, t.date, t.transaction_type,
+				m.id AS member_id, m.name AS member_name, m.role AS member_role, m.created_at AS member_created_at,
+				c.id AS category_id, c.name AS category_name
+			FROM transactions t
+			LEFT JOIN members m ON m.id = t.member_id
+			LEFT JOIN categories c ON c.id = t.category_id
+		""";
+
+	@Autowired
+	private DatabaseClient client;
+
+	public Flux<TransactionDTO> findAllTransactions() {
+		return client.sql(TRANSACTION_QUERY + " ORDER BY t.id")
+				.map(ReactiveReadRepository::toTransaction)
+				.all();
+	}
+
+	public Mono<TransactionDTO> findTransactionById(Long id) {
+		return client.sql(TRANSACTION_QUERY + " WHERE t.id = :id")
+				.bind("id", id)
+				.map(ReactiveReadRepository::toTransaction)
+				.one();
+	}
+
+	public Flux<CategoryDTO> findAllCategories() {
+		return client.sql("SELECT id, name FROM categories ORDER BY id")
+				.map(row -> new CategoryDTO(row.get("id", Long.class), row.get("name", String.class)))
+				.all();
+	}
+
+	public Flux<MemberDTO> findAllMembers() {
+		return client.sql("SELECT id, name, role, created_at FROM members ORDER BY id")
+				.map(row -> new MemberDTO(row.get("id", Long.class), row.get("name", String.class),
+						row.get("role", String.class), row.get("created_at", LocalDate.class)))
+				.all();
+	}
+
+	private static TransactionDTO toTransaction(Readable row) {
+		Number type = (Number) row.get("transaction_type");
+		OffsetDateTime date = row.get("date", OffsetDateTime.class);
+		Long memberId = row.get("member_id", Long.class);
+		Long categoryId = row.get("category_id", Long.class);
+
+		MemberDTO member = memberId != null
+				? new MemberDTO(memberId, row.get("member_name", String.class), row.get("member_role", String.class),
+						row.get("member_created_at", LocalDate.class))
+				: null;
+		CategoryDTO category = categoryId != null
+				? new CategoryDTO(categoryId, row.get("category_name", String.class))
+				: null;
+
+		TransactionDTO dto = new TransactionDTO(row.get("id", Long.class), row.get("amount", BigDecimal.class),
+				row.get("description", String.class),
+				date != null ? date.atZoneSameInstant(ZoneId.systemDefault()).toLocalDate() : null, member, category,
+				type != null ? TransactionType.values()[type.intValue()] : null);
+		dto.setMemberId(memberId);
+		return dto;
+	}
+}
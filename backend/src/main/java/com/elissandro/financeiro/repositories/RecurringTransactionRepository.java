@@ -0,0 +1,29 @@
+package com.elissandro.financeiro.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.elissandro.financeiro.entities.RecurringTransaction;
+
+public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
+
+	@Query("SELECT obj FROM RecurringTransaction obj WHERE obj.active = true AND obj.nextDueDate <= :date")
+	List<RecurringTransaction> findDue(LocalDate date);
+
+	@Modifying
+	@Query("DELETE FROM RecurringTransaction obj WHERE obj.id = :id")
+	int deleteRow(Long id);
+
+	@Modifying
+	@Query(nativeQuery = true, value = "UPDATE recurring_transactions SET category_id = :target WHERE category_id = :source")
+	int reassignCategory(Long source, Long target);
+
+	@Modifying
+	@Query(nativeQuery = true, value = "UPDATE recurring_transactions SET member_id = :target WHERE member_id = :source")
+	int reassignMember(Long source, Long target);
+
+}
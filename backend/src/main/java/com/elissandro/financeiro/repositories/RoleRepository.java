@@ -1,9 +1,15 @@
 package com.elissandro.financeiro.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.elissandro.financeiro.entities.Role;
 
-public interface RoleRepository extends JpaRepository<Role, Long> { 
+public interface RoleRepository extends JpaRepository<Role, Long> {
+
+	@Modifying
+	@Query("DELETE FROM Role obj WHERE obj.id = :id")
+	int deleteRow(Long id);
 
 }
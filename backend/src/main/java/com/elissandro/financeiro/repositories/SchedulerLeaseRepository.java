@@ -0,0 +1,27 @@
+package com.elissandro.financeiro.repositories;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.entities.SchedulerLease;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+	@Transactional
+	@Modifying
+	@Query("""
+			UPDATE SchedulerLease obj SET obj.owner = :owner, obj.expiresAt = :expiresAt
+			WHERE obj.name = :name AND (obj.expiresAt < :now OR obj.owner = :owner)
+		""")
+	int tryAcquire(String name, String owner, Instant now, Instant expiresAt);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE SchedulerLease obj SET obj.expiresAt = :now WHERE obj.name = :name AND obj.owner = :owner")
+	int release(String name, String owner, Instant now);
+
+}
@@ -0,0 +1,14 @@
+package com.elissandro.financeiro.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.elissandro.financeiro.entities.SyncTombstone;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+	List<SyncTombstone> findByIdGreaterThanOrderByIdAsc(Long since, Pageable pageable);
+
+}
@@ -1,9 +1,118 @@
 package com.elissandro.financeiro.repositories;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.projections.CategoryMemberTotalProjection;
+import com.elissandro.financeiro.projections.DescriptionCategoryCountProjection;
+import com.elissandro.financeiro.projections.InstallmentNumberProjection;
+import com.elissandro.financeiro.projections.TransactionFingerprintProjection;
+import com.elissandro.financeiro.projections.TransactionTotalProjection;
+
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionRepositoryCustom { 
+
+	@Query("""
+			SELECT obj.transactionType AS transactionType, SUM(obj.amount) AS total, COUNT(obj) AS count
+			FROM Transaction obj
+			WHERE obj.date BETWEEN :from AND :to
+			GROUP BY obj.transactionType
+		""")
+	List<TransactionTotalProjection> sumByTransactionType(LocalDate from, LocalDate to);
+
+	@Query("""
+			SELECT COALESCE(SUM(CASE WHEN obj.transactionType = com.elissandro.financeiro.entities.TransactionType.EXPENSE
+				THEN -obj.amount ELSE obj.amount END), 0)
+			FROM Transaction obj
+			WHERE obj.date < :date
+		""")
+	BigDecimal balanceBefore(LocalDate date);
+
+	@Query("""
+			SELECT obj.category.id AS categoryId, obj.member.id AS memberId, SUM(obj.amount) AS total
+			FROM Transaction obj
+			WHERE obj.transactionType = com.elissandro.financeiro.entities.TransactionType.EXPENSE
+			AND obj.date BETWEEN :from AND :to
+			GROUP BY obj.category.id, obj.member.id
+		""")
+	List<CategoryMemberTotalProjection> sumExpensesByCategoryAndMember(LocalDate from, LocalDate to);
+
+	@Query(nativeQuery = true, value = """
+			SELECT CAST(t.date AS DATE) AS bucket_day,
+				SUM(CASE WHEN t.transaction_type = :expense THEN -t.amount ELSE t.amount END) AS net,
+				SUM(SUM(CASE WHEN t.transaction_type = :expense THEN -t.amount ELSE t.amount END))
+					OVER (ORDER BY CAST(t.date AS DATE)) AS running
+			FROM transactions t
+			WHERE t.date >= :from AND t.date < :until
+			GROUP BY CAST(t.date AS DATE)
+			ORDER BY bucket_day
+		""")
+	List<Object[]> dailyBalances(LocalDate from, LocalDate until, int expense);
+
+	@Query("""
+			SELECT obj.installmentPlan.id AS planId, obj.installmentNumber AS installmentNumber
+			FROM Transaction obj
+			WHERE obj.installmentPlan.id IN :planIds
+		""")
+	List<InstallmentNumberProjection> findInstallmentNumbers(Collection<Long> planIds);
+
+	@Query("""
+			SELECT obj.installmentPlan.id AS planId, obj.installmentNumber AS installmentNumber
+			FROM Transaction obj
+			WHERE obj.installmentPlan IS NOT NULL
+		""")
+	List<InstallmentNumberProjection> findAllInstallmentNumbers();
+
+	@Query("SELECT MIN(obj.date) FROM Transaction obj")
+	LocalDate findFirstDate();
+
+	@Query("SELECT MAX(obj.date) FROM Transaction obj")
+	LocalDate findLastDate();
+
+	@Query("SELECT COUNT(obj) FROM Transaction obj WHERE obj.date < :date")
+	long countDatedBefore(LocalDate date);
+
+	@Query("SELECT COUNT(obj) FROM Transaction obj WHERE obj.date > :date OR obj.date IS NULL")
+	long countDatedAfterOrUndated(LocalDate date);
+
+	Optional<Transaction> findByInstallmentPlanIdAndInstallmentNumber(Long planId, Integer installmentNumber);
+
+	List<Transaction> findByInstallmentPlanId(Long planId);
+
+	@Query("""
+			SELECT obj.description AS description, obj.category.id AS categoryId, COUNT(obj) AS count
+			FROM Transaction obj
+			WHERE obj.description IS NOT NULL
+			GROUP BY obj.description, obj.category.id
+		""")
+	List<DescriptionCategoryCountProjection> countByDescriptionAndCategory();
+
+	@Query("""
+			SELECT obj.fingerprint AS fingerprint, obj.member.id AS memberId, obj.date AS date
+			FROM Transaction obj
+			WHERE obj.fingerprint IN :fingerprints AND obj.date BETWEEN :from AND :to
+		""")
+	List<TransactionFingerprintProjection> findFingerprints(Collection<String> fingerprints, LocalDate from, LocalDate to);
+
+	@Query("""
+			SELECT obj FROM Transaction obj
+			JOIN FETCH obj.category
+			LEFT JOIN FETCH obj.member
+			WHERE obj.changeVersion > :since
+			ORDER BY obj.changeVersion
+		""")
+	List<Transaction> findChangedSince(Long since, Pageable pageable);
 
-public interface TransactionRepository extends JpaRepository<Transaction, Long> { 
+	@Modifying
+	@Query("UPDATE Transaction obj SET obj.fingerprint = :fingerprint WHERE obj.id = :id")
+	int updateFingerprint(Long id, String fingerprint);
 
 }
@@ -0,0 +1,33 @@
+package com.elissandro.financeiro.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.elissandro.financeiro.dto.TransactionFilterDTO;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.projections.TransactionFieldSelection;
+
+public interface TransactionRepositoryCustom {
+
+	Page<Map<String, Object>> findProjected(TransactionFieldSelection selection, Pageable pageable);
+
+	List<Map<String, Object>> findProjectedWindow(TransactionFieldSelection selection, Sort sort, long offset, int limit);
+
+	Page<Map<String, Object>> searchProjected(String q, TransactionFieldSelection selection, Pageable pageable);
+
+	Optional<Map<String, Object>> findProjectedById(Long id, TransactionFieldSelection selection);
+
+	Optional<Transaction> deleteReturning(Long id);
+
+	Optional<Transaction> patchReturning(Long id, Long version, Map<String, Object> changes);
+
+	int reassign(String column, Long value, Collection<Long> ids, TransactionFilterDTO filter);
+
+	int bulkDelete(Collection<Long> ids, TransactionFilterDTO filter);
+}
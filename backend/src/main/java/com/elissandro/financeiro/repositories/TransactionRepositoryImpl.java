@@ -0,0 +1,361 @@
+package com.elissandro.financeiro.repositories;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.elissandro.financeiro.dto.TransactionFilterDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.InstallmentPlan;
+import com.elissandro.financeiro.entities.Member;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.projections.TransactionFieldSelection;
+import com.elissandro.financeiro.services.ResourceVersionService;
+import com.elissandro.financeiro.services.SyncVersionService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
+
+	private static final Set<String> SORTABLE = Set.of("id", "amount", "description", "date", "transactionType");
+
+	private static final String POSTGRES_SEARCH_WHERE = """
+			FROM transactions t, websearch_to_tsquery('portuguese', :q) query
+			WHERE t.search_vector @@ query OR :q <% t.description
+			""";
+
+	private static final String POSTGRES_SEARCH = "SELECT t.id " + POSTGRES_SEARCH_WHERE + """
+			ORDER BY GREATEST(ts_rank(t.search_vector, query), word_similarity(:q, t.description)) DESC, t.id DESC
+			""";
+
+	private static final String H2_SEARCH_WHERE = "FROM transactions t WHERE LOWER(t.description) LIKE :pattern ";
+
+	private static final String H2_SEARCH = "SELECT t.id " + H2_SEARCH_WHERE
+			+ "ORDER BY CASE WHEN LOWER(t.description) LIKE :prefix THEN 0 ELSE 1 END, t.id DESC";
+
+	private static final String DELETED_COLUMNS = """
+			id, amount, description, CAST(date AS DATE), transaction_type, category_id, member_id,
+			installment_plan_id, installment_number
+			""";
+
+	private static final String POSTGRES_DELETE = "DELETE FROM transactions WHERE id = :id RETURNING " + DELETED_COLUMNS;
+
+	private static final String H2_DELETE = "SELECT " + DELETED_COLUMNS
+			+ " FROM OLD TABLE (DELETE FROM transactions WHERE id = :id)";
+
+	private static final String POSTGRES_PATCH_RETURNING = """
+			 RETURNING old.id, old.amount, old.description, CAST(old.date AS DATE), old.transaction_type, old.category_id,
+				old.member_id, old.installment_plan_id, old.installment_number, old.version
+			""";
+
+	private static final Set<String> REASSIGNABLE = Set.of("category_id", "member_id");
+
+	private static final Set<String> PATCHABLE = Set.of("amount", "description", "date", "transaction_type",
+			"category_id", "member_id", "fingerprint");
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@Autowired
+	private SyncVersionService syncVersionService;
+
+	private volatile Boolean postgres;
+
+	@Override
+	public Page<Map<String, Object>> findProjected(TransactionFieldSelection selection, Pageable pageable) {
+		List<Map<String, Object>> content = pageable.isPaged()
+				? findProjectedWindow(selection, pageable.getSort(), pageable.getOffset(), pageable.getPageSize())
+				: findProjectedWindow(selection, pageable.getSort(), 0, -1);
+
+		return PageableExecutionUtils.getPage(content, pageable, () -> {
+			CriteriaBuilder cb = em.getCriteriaBuilder();
+			CriteriaQuery<Long> count = cb.createQuery(Long.class);
+			count.select(cb.count(count.from(Transaction.class)));
+			return em.createQuery(count).getSingleResult();
+		});
+	}
+
+	@Override
+	public List<Map<String, Object>> findProjectedWindow(TransactionFieldSelection selection, Sort sort, long offset,
+			int limit) {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Transaction> root = query.from(Transaction.class);
+		query.multiselect(selections(selection, root));
+
+		List<Order> orders = new ArrayList<>();
+		for (Sort.Order order : sort) {
+			if (!SORTABLE.contains(order.getProperty())) {
+				throw new IllegalArgumentException("Invalid sort property: " + order.getProperty());
+			}
+			orders.add(order.isAscending() ? cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())));
+		}
+		query.orderBy(orders);
+
+		TypedQuery<Tuple> typedQuery = em.createQuery(query);
+		if (limit >= 0) {
+			typedQuery.setFirstResult((int) offset);
+			typedQuery.setMaxResults(limit);
+		}
+		return typedQuery.getResultList().stream().map(tuple -> toMap(tuple, selection)).toList();
+	}
+
+	@Override
+	public Page<Map<String, Object>> searchProjected(String q, TransactionFieldSelection selection, Pageable pageable) {
+		String term = q.trim();
+		Query idQuery = searchQuery("SELECT t.id ", term, false);
+		if (pageable.isPaged()) {
+			idQuery.setFirstResult((int) pageable.getOffset());
+			idQuery.setMaxResults(pageable.getPageSize());
+		}
+		List<Long> ids = ((List<?>) idQuery.getResultList()).stream().map(id -> ((Number) id).longValue()).toList();
+
+		List<Map<String, Object>> content = new ArrayList<>(ids.size());
+		if (!ids.isEmpty()) {
+			CriteriaBuilder cb = em.getCriteriaBuilder();
+			CriteriaQuery<Tuple> query = cb.createTupleQuery();
+			Root<Transaction> root = query.from(Transaction.class);
+			query.multiselect(selections(selection.including(List.of("id")), root)).where(root.get("id").in(ids));
+
+			Map<Long, Map<String, Object>> rows = new HashMap<>();
+			for (Tuple tuple : em.createQuery(query).getResultList()) {
+				rows.put(tuple.get("id", Long.class), toMap(tuple, selection));
+			}
+			for (Long id : ids) {
+				content.add(rows.get(id));
+			}
+		}
+
+		return PageableExecutionUtils.getPage(content, pageable,
+				() -> ((Number) searchQuery("SELECT COUNT(*) ", term, true).getSingleResult()).longValue());
+	}
+
+	@Override
+	public Optional<Map<String, Object>> findProjectedById(Long id, TransactionFieldSelection selection) {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Transaction> root = query.from(Transaction.class);
+		query.multiselect(selections(selection, root)).where(cb.equal(root.get("id"), id));
+		return em.createQuery(query).getResultStream().findFirst().map(tuple -> toMap(tuple, selection));
+	}
+
+	@Override
+	public Optional<Transaction> deleteReturning(Long id) {
+		List<?> rows = em.createNativeQuery(isPostgres() ? POSTGRES_DELETE : H2_DELETE)
+				.setParameter("id", id)
+				.getResultList();
+		return rows.stream().findFirst().map(row -> toTransaction((Object[]) row));
+	}
+
+	@Override
+	public Optional<Transaction> patchReturning(Long id, Long version, Map<String, Object> changes) {
+		List<String> assignments = new ArrayList<>();
+		for (String column : changes.keySet()) {
+			if (!PATCHABLE.contains(column)) {
+				throw new IllegalArgumentException("Column cannot be patched: " + column);
+			}
+			assignments.add(column + " = :" + column);
+		}
+		assignments.add("change_version = " + syncVersionService.nextValueExpression());
+		String sql;
+		if (isPostgres()) {
+			assignments.add("version = old.version + 1");
+			sql = "UPDATE transactions t SET " + String.join(", ", assignments)
+					+ " FROM (SELECT * FROM transactions WHERE id = :id AND version = :version FOR UPDATE) old"
+					+ " WHERE t.id = old.id" + POSTGRES_PATCH_RETURNING;
+		} else {
+			assignments.add("version = version + 1");
+			sql = "SELECT " + DELETED_COLUMNS + ", version FROM OLD TABLE (UPDATE transactions SET "
+					+ String.join(", ", assignments) + " WHERE id = :id AND version = :version)";
+		}
+		Query query = em.createNativeQuery(sql).setParameter("id", id).setParameter("version", version);
+		List<?> rows = bind(query, changes).getResultList();
+		return rows.stream().findFirst().map(row -> toTransaction((Object[]) row));
+	}
+
+	@Override
+	public int reassign(String column, Long value, Collection<Long> ids, TransactionFilterDTO filter) {
+		if (!REASSIGNABLE.contains(column)) {
+			throw new IllegalArgumentException("Column cannot be reassigned: " + column);
+		}
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("value", value);
+		String sql = "UPDATE transactions SET " + column + " = :value, version = version + 1, change_version = "
+				+ syncVersionService.nextValueExpression() + " WHERE " + bulkPredicate(ids, filter, parameters);
+		return bind(em.createNativeQuery(sql), parameters).executeUpdate();
+	}
+
+	@Override
+	public int bulkDelete(Collection<Long> ids, TransactionFilterDTO filter) {
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("resource", ResourceVersionService.TRANSACTIONS);
+		String predicate = bulkPredicate(ids, filter, parameters);
+		String tombstones = "INSERT INTO sync_tombstones (id, resource, entity_id) SELECT "
+				+ syncVersionService.nextValueExpression() + ", :resource, id FROM ";
+		if (isPostgres()) {
+			return bind(em.createNativeQuery("WITH deleted AS (DELETE FROM transactions WHERE " + predicate
+					+ " RETURNING id) " + tombstones + "deleted"), parameters).executeUpdate();
+		}
+		bind(em.createNativeQuery(tombstones + "transactions WHERE " + predicate), parameters).executeUpdate();
+		parameters.remove("resource");
+		return bind(em.createNativeQuery("DELETE FROM transactions WHERE " + predicate), parameters).executeUpdate();
+	}
+
+	private Query searchQuery(String select, String term, boolean count) {
+		if (isPostgres()) {
+			return em.createNativeQuery(count ? select + POSTGRES_SEARCH_WHERE : POSTGRES_SEARCH)
+					.setParameter("q", term);
+		}
+		String lower = term.toLowerCase().replace("%", "\\%").replace("_", "\\_");
+		Query query = em.createNativeQuery(count ? select + H2_SEARCH_WHERE : H2_SEARCH)
+				.setParameter("pattern", "%" + lower + "%");
+		return count ? query : query.setParameter("prefix", lower + "%");
+	}
+
+	private boolean isPostgres() {
+		if (postgres == null) {
+			postgres = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices()
+					.getDialect() instanceof PostgreSQLDialect;
+		}
+		return postgres;
+	}
+
+	private static String bulkPredicate(Collection<Long> ids, TransactionFilterDTO filter,
+			Map<String, Object> parameters) {
+		List<String> conditions = new ArrayList<>();
+		if (ids != null && !ids.isEmpty()) {
+			conditions.add("id IN (:ids)");
+			parameters.put("ids", ids);
+		}
+		if (filter != null) {
+			if (filter.getCategoryId() != null) {
+				conditions.add("category_id = :categoryId");
+				parameters.put("categoryId", filter.getCategoryId());
+			}
+			if (filter.getMemberId() != null) {
+				conditions.add("member_id = :memberId");
+				parameters.put("memberId", filter.getMemberId());
+			}
+			if (filter.getFrom() != null) {
+				conditions.add("date >= :fromDate");
+				parameters.put("fromDate", filter.getFrom());
+			}
+			if (filter.getTo() != null) {
+				conditions.add("date < :until");
+				parameters.put("until", filter.getTo().plusDays(1));
+			}
+			if (filter.getDescription() != null && !filter.getDescription().isBlank()) {
+				conditions.add("LOWER(description) LIKE :pattern");
+				parameters.put("pattern", "%" + filter.getDescription().trim().toLowerCase()
+						.replace("%", "\\%").replace("_", "\\_") + "%");
+			}
+		}
+		if (conditions.isEmpty()) {
+			throw new IllegalArgumentException("Bulk operations need an id list or at least one filter");
+		}
+		return String.join(" AND ", conditions);
+	}
+
+	private static Query bind(Query query, Map<String, Object> parameters) {
+		parameters.forEach(query::setParameter);
+		return query;
+	}
+
+	private static Transaction toTransaction(Object[] row) {
+		Transaction transaction = new Transaction(((Number) row[0]).longValue(), (BigDecimal) row[1], (String) row[2],
+				toLocalDate(row[3]), row[5] != null ? new Category(((Number) row[5]).longValue(), null) : null,
+				row[6] != null ? new Member(((Number) row[6]).longValue(), null, null, null) : null,
+				row[4] != null ? TransactionType.values()[((Number) row[4]).intValue()] : null);
+		if (row[7] != null) {
+			InstallmentPlan plan = new InstallmentPlan();
+			plan.setId(((Number) row[7]).longValue());
+			transaction.setInstallmentPlan(plan);
+			transaction.setInstallmentNumber(((Number) row[8]).intValue());
+		}
+		if (row.length > 9 && row[9] != null) {
+			transaction.setVersion(((Number) row[9]).longValue());
+		}
+		return transaction;
+	}
+
+	private static LocalDate toLocalDate(Object value) {
+		return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+	}
+
+	private static List<Selection<?>> selections(TransactionFieldSelection selection, Root<Transaction> root) {
+		List<Selection<?>> selections = new ArrayList<>();
+		for (String field : selection.getFields()) {
+			switch (field) {
+			case "memberId" -> selections.add(root.get("member").get("id").alias(field));
+			case "categoryId" -> selections.add(root.get("category").get("id").alias(field));
+			default -> selections.add(root.get(field).alias(field));
+			}
+		}
+		if (selection.isExpandMember()) {
+			Join<Transaction, Member> member = root.join("member", JoinType.LEFT);
+			selections.add(member.get("id").alias("member_id"));
+			selections.add(member.get("name").alias("member_name"));
+			selections.add(member.get("role").alias("member_role"));
+			selections.add(member.get("createdAt").alias("member_createdAt"));
+		}
+		if (selection.isExpandCategory()) {
+			Join<Transaction, Category> category = root.join("category", JoinType.LEFT);
+			selections.add(category.get("id").alias("category_id"));
+			selections.add(category.get("name").alias("category_name"));
+		}
+		return selections;
+	}
+
+	private static Map<String, Object> toMap(Tuple tuple, TransactionFieldSelection selection) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (String field : selection.getFields()) {
+			row.put(field, tuple.get(field));
+		}
+		if (selection.isExpandMember()) {
+			row.put("member", nested(tuple, "member_", "id", "name", "role", "createdAt"));
+		}
+		if (selection.isExpandCategory()) {
+			row.put("category", nested(tuple, "category_", "id", "name"));
+		}
+		return row;
+	}
+
+	private static Map<String, Object> nested(Tuple tuple, String prefix, String... fields) {
+		if (tuple.get(prefix + "id") == null) {
+			return null;
+		}
+		Map<String, Object> nested = new LinkedHashMap<>();
+		for (String field : fields) {
+			nested.put(field, tuple.get(prefix + field));
+		}
+		return nested;
+	}
+}
@@ -8,7 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import com.elissandro.financeiro.entities.User;
 import com.elissandro.financeiro.projections.UserDetailsProjection;
 
-public interface UserRepository extends JpaRepository<User, Long> { 
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom { 
 	@Query(nativeQuery = true, value = """
 			SELECT tb_user.email AS username, tb_user.password, tb_role.id AS roleId, tb_role.authority
 			FROM tb_user
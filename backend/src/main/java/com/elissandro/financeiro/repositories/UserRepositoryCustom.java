@@ -0,0 +1,10 @@
+package com.elissandro.financeiro.repositories;
+
+import java.util.Optional;
+
+import com.elissandro.financeiro.entities.User;
+
+public interface UserRepositoryCustom {
+
+	Optional<User> deleteReturning(Long id);
+}
@@ -0,0 +1,59 @@
+package com.elissandro.financeiro.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.elissandro.financeiro.entities.Role;
+import com.elissandro.financeiro.entities.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+	private static final String COLUMNS = "id, first_name, last_name, email, phone";
+
+	private static final String POSTGRES_DELETE_ROLES = "DELETE FROM tb_user_role WHERE user_id = :id RETURNING role_id";
+
+	private static final String H2_DELETE_ROLES = "SELECT role_id FROM OLD TABLE (DELETE FROM tb_user_role WHERE user_id = :id)";
+
+	private static final String POSTGRES_DELETE = "DELETE FROM tb_user WHERE id = :id RETURNING " + COLUMNS;
+
+	private static final String H2_DELETE = "SELECT " + COLUMNS + " FROM OLD TABLE (DELETE FROM tb_user WHERE id = :id)";
+
+	@PersistenceContext
+	private EntityManager em;
+
+	private Boolean postgres;
+
+	@Override
+	public Optional<User> deleteReturning(Long id) {
+		List<?> roleIds = em.createNativeQuery(isPostgres() ? POSTGRES_DELETE_ROLES : H2_DELETE_ROLES)
+				.setParameter("id", id)
+				.getResultList();
+		List<?> rows = em.createNativeQuery(isPostgres() ? POSTGRES_DELETE : H2_DELETE)
+				.setParameter("id", id)
+				.getResultList();
+		if (rows.isEmpty()) {
+			return Optional.empty();
+		}
+		Object[] row = (Object[]) rows.get(0);
+		User user = new User(((Number) row[0]).longValue(), (String) row[1], (String) row[2], (String) row[3],
+				(String) row[4], null);
+		for (Object roleId : roleIds) {
+			user.addRole(new Role(((Number) roleId).longValue(), null));
+		}
+		return Optional.of(user);
+	}
+
+	private boolean isPostgres() {
+		if (postgres == null) {
+			postgres = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices()
+					.getDialect() instanceof PostgreSQLDialect;
+		}
+		return postgres;
+	}
+}
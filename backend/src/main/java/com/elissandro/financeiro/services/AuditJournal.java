@@ -0,0 +1,181 @@
+package com.elissandro.financeiro.services;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.elissandro.financeiro.dto.AuditEntryDTO;
+import com.elissandro.financeiro.events.ChangeAction;
+import com.elissandro.financeiro.repositories.AuditEntryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class AuditJournal {
+
+	private static final Logger logger = LoggerFactory.getLogger(AuditJournal.class);
+
+	private static final String INSERT_ENTRY = """
+			INSERT INTO audit_entries (occurred_at, actor, resource, entity_id, action, before_state, after_state)
+			VALUES (?, ?, ?, ?, ?, ?, ?)
+			""";
+
+	@Value("${audit.queue-capacity}")
+	private int queueCapacity;
+
+	@Value("${audit.batch-size}")
+	private int batchSize;
+
+	@Value("${audit.flush-ms}")
+	private long flushMs;
+
+	@Autowired
+	private AuditEntryRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private BlockingQueue<Entry> queue;
+	private Thread writer;
+	private volatile boolean running;
+
+	@PostConstruct
+	public void start() {
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		running = true;
+		writer = new Thread(this::drain, "audit-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	public void record(String resource, ChangeAction action, Long entityId, Object before, Object after) {
+		Entry entry = new Entry(Instant.now(), AuthService.currentUsername(), resource, entityId, action.name(), before,
+				after);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(entry);
+				}
+			});
+		} else {
+			enqueue(entry);
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public Page<AuditEntryDTO> search(String resource, Long entityId, String actor, Instant from, Instant to,
+			Pageable pageable) {
+		Instant since = from != null ? from : Instant.EPOCH;
+		Instant until = to != null ? to : Instant.now();
+		if (!since.isBefore(until)) {
+			throw new IllegalArgumentException("'from' must be before 'to'");
+		}
+		return repository.search(resource, entityId, actor, since, until, pageable).map(entry -> new AuditEntryDTO(entry));
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		running = false;
+		writer.join();
+		flush();
+	}
+
+	private void enqueue(Entry entry) {
+		if (!queue.offer(entry)) {
+			write(List.of(entry));
+		} else if (!running) {
+			flush();
+		}
+	}
+
+	private void drain() {
+		List<Entry> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				if (batch.isEmpty()) {
+					Entry first = queue.poll(flushMs, TimeUnit.MILLISECONDS);
+					if (first == null) {
+						continue;
+					}
+					batch.add(first);
+					queue.drainTo(batch, batchSize - 1);
+				}
+				if (write(batch)) {
+					batch.clear();
+				} else {
+					Thread.sleep(flushMs);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		if (!batch.isEmpty()) {
+			write(batch);
+		}
+	}
+
+	private void flush() {
+		List<Entry> batch = new ArrayList<>(batchSize);
+		while (queue.drainTo(batch, batchSize) > 0) {
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	private boolean write(List<Entry> batch) {
+		List<Object[]> rows = new ArrayList<>(batch.size());
+		for (Entry entry : batch) {
+			rows.add(new Object[] { entry.occurredAt().atOffset(ZoneOffset.UTC), entry.actor(), entry.resource(),
+					entry.entityId(), entry.action(), json(entry.before()), json(entry.after()) });
+		}
+		try {
+			jdbcTemplate.batchUpdate(INSERT_ENTRY, rows);
+			return true;
+		} catch (DataAccessException e) {
+			logger.warn("Could not write {} audit entries: {}", batch.size(), e.getMessage());
+			return false;
+		}
+	}
+
+	private String json(Object snapshot) {
+		if (snapshot == null) {
+			return null;
+		}
+		try {
+			return objectMapper.writeValueAsString(snapshot);
+		} catch (JsonProcessingException e) {
+			logger.warn("Could not serialize audit snapshot of {}: {}", snapshot.getClass().getSimpleName(),
+					e.getMessage());
+			return null;
+		}
+	}
+
+	private record Entry(Instant occurredAt, String actor, String resource, Long entityId, String action,
+			Object before, Object after) {
+	}
+}
@@ -74,6 +74,17 @@ public class AuthService {
 		repository.save(user);
 	}
 
+	public static String currentUsername() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null) {
+			return null;
+		}
+		if (authentication.getPrincipal() instanceof Jwt jwt && jwt.hasClaim("username")) {
+			return jwt.getClaimAsString("username");
+		}
+		return authentication.getName();
+	}
+
 	protected User authenticated() {
 		try {
 			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
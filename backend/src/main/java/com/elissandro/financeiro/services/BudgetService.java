@@ -0,0 +1,86 @@
+package com.elissandro.financeiro.services;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.dto.BudgetDTO;
+import com.elissandro.financeiro.dto.BudgetStatusDTO;
+import com.elissandro.financeiro.entities.Budget;
+import com.elissandro.financeiro.repositories.BudgetRepository;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.MemberRepository;
+import com.elissandro.financeiro.services.exceptions.DatabaseException;
+import com.elissandro.financeiro.services.exceptions.ResourceNotFoundException;
+
+@Service
+public class BudgetService {
+
+	@Autowired
+	private BudgetRepository repository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private BudgetTracker tracker;
+
+	@Transactional(readOnly = true)
+	public List<BudgetDTO> findAll() {
+		return repository.findAll().stream().map(budget -> new BudgetDTO(budget)).toList();
+	}
+
+	public List<BudgetStatusDTO> status() {
+		return tracker.status();
+	}
+
+	@Transactional
+	public BudgetDTO insert(BudgetDTO dto) {
+		Budget budget = new Budget();
+		copyDtoToEntity(dto, budget);
+		budget = repository.save(budget);
+		tracker.reloadBudgetsAfterCommit();
+		return new BudgetDTO(budget);
+	}
+
+	@Transactional
+	public BudgetDTO update(Long id, BudgetDTO dto) {
+		Budget budget = repository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
+		copyDtoToEntity(dto, budget);
+		budget = repository.save(budget);
+		tracker.reloadBudgetsAfterCommit();
+		return new BudgetDTO(budget);
+	}
+
+	@Transactional
+	public void delete(Long id) {
+		int deleted;
+		try {
+			deleted = repository.deleteRow(id);
+		} catch (Exception e) {
+			throw new DatabaseException("Could not delete budget: " + e.getMessage());
+		}
+		if (deleted == 0) {
+			throw new ResourceNotFoundException("Budget not found");
+		}
+		tracker.reloadBudgetsAfterCommit();
+	}
+
+	private void copyDtoToEntity(BudgetDTO dto, Budget budget) {
+		if (dto.getCategoryId() == null) {
+			throw new IllegalArgumentException("Budget category is required");
+		}
+		if (dto.getAmount() == null || dto.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+			throw new IllegalArgumentException("Budget amount must be positive");
+		}
+		budget.setAmount(dto.getAmount());
+		budget.setCategory(categoryRepository.getReferenceById(dto.getCategoryId()));
+		budget.setMember(dto.getMemberId() != null ? memberRepository.getReferenceById(dto.getMemberId()) : null);
+	}
+}
@@ -0,0 +1,359 @@
+package com.elissandro.financeiro.services;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.elissandro.financeiro.dto.BudgetDTO;
+import com.elissandro.financeiro.dto.BudgetLevel;
+import com.elissandro.financeiro.dto.BudgetStatusDTO;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.events.BudgetAlertEvent;
+import com.elissandro.financeiro.events.TransactionBulkChangeEvent;
+import com.elissandro.financeiro.projections.CategoryMemberTotalProjection;
+import com.elissandro.financeiro.repositories.BudgetRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+import com.elissandro.financeiro.util.Money;
+
+@Service
+public class BudgetTracker {
+
+	private static final Logger logger = LoggerFactory.getLogger(BudgetTracker.class);
+
+	private static final int WARNING_PERCENTAGE = 80;
+	private static final int EXCEEDED_PERCENTAGE = 100;
+	private static final long COMMIT_LOCK_TIMEOUT_MS = 2000;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private InstallmentSchedule installmentSchedule;
+
+	@Autowired
+	private ApplicationEventPublisher publisher;
+
+	// Warmed up at startup when the database is reachable, otherwise loaded on first use
+	private volatile MonthTotals totals;
+	private volatile List<BudgetDTO> budgets;
+	private volatile Map<Long, List<BudgetDTO>> budgetsByCategory;
+
+	// Writers hold the read lock from just before their commit until their delta is applied, and a
+	// rebuild holds the write lock around its query and swap. A committed write is then either seen by
+	// the rebuild query or applied to the rebuilt totals, never both and never neither. A writer that
+	// cannot get the lock in time marks the totals stale instead, and the next read rebuilds them.
+	private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+	private volatile boolean stale;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() {
+		try {
+			reloadBudgets();
+			rebuild(currentMonth());
+		} catch (DataAccessException | TransactionException e) {
+			logger.warn("Budget totals not warmed up, they will be loaded on first use: {}", e.getMessage());
+		}
+	}
+
+	@Async
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBulkChange(TransactionBulkChangeEvent event) {
+		refresh();
+	}
+
+	public void reloadBudgets() {
+		List<BudgetDTO> list = budgetRepository.findAll().stream().map(budget -> new BudgetDTO(budget)).toList();
+		Map<Long, List<BudgetDTO>> byCategory = new HashMap<>();
+		for (BudgetDTO budget : list) {
+			byCategory.computeIfAbsent(budget.getCategoryId(), key -> new ArrayList<>()).add(budget);
+		}
+		budgetsByCategory = byCategory;
+		budgets = list;
+	}
+
+	public void reloadBudgetsAfterCommit() {
+		afterCommit(this::reloadBudgets);
+	}
+
+	public void record(Transaction before, Transaction after) {
+		Snapshot removed = Snapshot.of(before);
+		Snapshot added = Snapshot.of(after);
+		if (removed == null && added == null) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			commitLock.readLock().lock();
+			try {
+				apply(removed, -1);
+				apply(added, 1);
+			} finally {
+				commitLock.readLock().unlock();
+			}
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			private boolean locked;
+
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				try {
+					locked = commitLock.readLock().tryLock(COMMIT_LOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			@Override
+			public void afterCommit() {
+				if (locked) {
+					apply(removed, -1);
+					apply(added, 1);
+				} else {
+					stale = true;
+				}
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (locked) {
+					locked = false;
+					commitLock.readLock().unlock();
+				}
+			}
+		});
+	}
+
+	public List<BudgetStatusDTO> status() {
+		MonthTotals current = currentTotals();
+		List<BudgetDTO> list = budgets();
+		List<BudgetStatusDTO> result = new ArrayList<>(list.size());
+		for (BudgetDTO budget : list) {
+			long limit = Money.toCents(budget.getAmount());
+			long spent = current.spent(budget.getCategoryId(), budget.getMemberId());
+			int percentage = limit > 0 ? (int) (spent * 100 / limit) : 0;
+			result.add(new BudgetStatusDTO(budget, current.month, Money.fromCents(spent),
+					Money.fromCents(limit - spent), percentage, level(percentage)));
+		}
+		return result;
+	}
+
+	// Runs under the read lock, so it cannot rebuild; totals for another month pick the write up
+	// from the database when they are built.
+	private void apply(Snapshot snapshot, int sign) {
+		if (snapshot == null) {
+			return;
+		}
+		MonthTotals current = totals;
+		if (current == null || !YearMonth.from(snapshot.date).equals(current.month)) {
+			return;
+		}
+		long cents = sign * snapshot.cents;
+		long categoryTotal = current.counter(snapshot.categoryId, null).addAndGet(cents);
+		long memberTotal = snapshot.memberId != null
+				? current.counter(snapshot.categoryId, snapshot.memberId).addAndGet(cents)
+				: 0L;
+
+		for (BudgetDTO budget : budgetsByCategory().getOrDefault(snapshot.categoryId, List.of())) {
+			if (budget.getMemberId() == null) {
+				checkThreshold(budget, categoryTotal - cents, categoryTotal);
+			} else if (budget.getMemberId().equals(snapshot.memberId)) {
+				checkThreshold(budget, memberTotal - cents, memberTotal);
+			}
+		}
+	}
+
+	private void checkThreshold(BudgetDTO budget, long before, long after) {
+		long limit = Money.toCents(budget.getAmount());
+		if (limit <= 0 || after <= before) {
+			return;
+		}
+		int percentageBefore = (int) (before * 100 / limit);
+		int percentageAfter = (int) (after * 100 / limit);
+		BudgetLevel level = level(percentageAfter);
+		if (level != BudgetLevel.OK && level != level(percentageBefore)) {
+			logger.warn("Budget {} reached {}% ({} of {})", budget.getId(), percentageAfter, Money.fromCents(after),
+					budget.getAmount());
+			publisher.publishEvent(new BudgetAlertEvent(budget, level, Money.fromCents(after)));
+		}
+	}
+
+	private static BudgetLevel level(int percentage) {
+		if (percentage >= EXCEEDED_PERCENTAGE) {
+			return BudgetLevel.EXCEEDED;
+		}
+		return percentage >= WARNING_PERCENTAGE ? BudgetLevel.WARNING : BudgetLevel.OK;
+	}
+
+	private List<BudgetDTO> budgets() {
+		if (budgets == null) {
+			reloadBudgets();
+		}
+		return budgets;
+	}
+
+	private Map<Long, List<BudgetDTO>> budgetsByCategory() {
+		if (budgetsByCategory == null) {
+			reloadBudgets();
+		}
+		return budgetsByCategory;
+	}
+
+	private MonthTotals currentTotals() {
+		MonthTotals current = totals;
+		YearMonth month = currentMonth();
+		if (current == null || !current.month.equals(month) || stale) {
+			current = rebuild(month);
+		}
+		return current;
+	}
+
+	private void refresh() {
+		commitLock.writeLock().lock();
+		try {
+			stale = true;
+			rebuild(currentMonth());
+		} finally {
+			commitLock.writeLock().unlock();
+		}
+	}
+
+	private MonthTotals rebuild(YearMonth month) {
+		commitLock.writeLock().lock();
+		try {
+			if (totals != null && totals.month.equals(month) && !stale) {
+				return totals;
+			}
+			stale = false;
+			try {
+				return load(month);
+			} catch (RuntimeException e) {
+				stale = true;
+				throw e;
+			}
+		} finally {
+			commitLock.writeLock().unlock();
+		}
+	}
+
+	private MonthTotals load(YearMonth month) {
+		MonthTotals rebuilt = new MonthTotals(month);
+		List<CategoryMemberTotalProjection> rows = transactionRepository
+				.sumExpensesByCategoryAndMember(month.atDay(1), month.atEndOfMonth());
+		for (CategoryMemberTotalProjection row : rows) {
+			if (row.getCategoryId() == null) {
+				continue;
+			}
+			long cents = Money.toCents(row.getTotal());
+			rebuilt.counter(row.getCategoryId(), null).addAndGet(cents);
+			if (row.getMemberId() != null) {
+				rebuilt.counter(row.getCategoryId(), row.getMemberId()).addAndGet(cents);
+			}
+		}
+		for (Transaction installment : installmentSchedule.virtualInstallments(month.atDay(1), month.atEndOfMonth())) {
+			Snapshot snapshot = Snapshot.of(installment);
+			if (snapshot != null) {
+				rebuilt.counter(snapshot.categoryId, null).addAndGet(snapshot.cents);
+				if (snapshot.memberId != null) {
+					rebuilt.counter(snapshot.categoryId, snapshot.memberId).addAndGet(snapshot.cents);
+				}
+			}
+		}
+		totals = rebuilt;
+		return rebuilt;
+	}
+
+	private static YearMonth currentMonth() {
+		return YearMonth.now(ZoneOffset.UTC);
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	private static class MonthTotals {
+
+		private final YearMonth month;
+		private final Map<Long, AtomicLong> byCategory = new ConcurrentHashMap<>();
+		private final Map<Long, Map<Long, AtomicLong>> byCategoryAndMember = new ConcurrentHashMap<>();
+
+		MonthTotals(YearMonth month) {
+			this.month = month;
+		}
+
+		AtomicLong counter(Long categoryId, Long memberId) {
+			if (memberId == null) {
+				return byCategory.computeIfAbsent(categoryId, key -> new AtomicLong());
+			}
+			return byCategoryAndMember.computeIfAbsent(categoryId, key -> new ConcurrentHashMap<>())
+					.computeIfAbsent(memberId, key -> new AtomicLong());
+		}
+
+		long spent(Long categoryId, Long memberId) {
+			AtomicLong counter = memberId == null
+					? byCategory.get(categoryId)
+					: byCategoryAndMember.getOrDefault(categoryId, Map.of()).get(memberId);
+			return counter != null ? counter.get() : 0L;
+		}
+	}
+
+	private static class Snapshot {
+
+		private final Long categoryId;
+		private final Long memberId;
+		private final LocalDate date;
+		private final long cents;
+
+		private Snapshot(Long categoryId, Long memberId, LocalDate date, long cents) {
+			this.categoryId = categoryId;
+			this.memberId = memberId;
+			this.date = date;
+			this.cents = cents;
+		}
+
+		static Snapshot of(Transaction transaction) {
+			if (transaction == null || transaction.getTransactionType() != TransactionType.EXPENSE
+					|| transaction.getCategory() == null || transaction.getDate() == null) {
+				return null;
+			}
+			return new Snapshot(transaction.getCategory().getId(),
+					transaction.getMember() != null ? transaction.getMember().getId() : null,
+					transaction.getDate(), Money.toCents(transaction.getAmount()));
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.elissandro.financeiro.services;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.elissandro.financeiro.repositories.CategoryRuleRepository;
+import com.elissandro.financeiro.util.CategoryMatcher;
+
+@Service
+public class CategorizationEngine {
+
+	@Value("${categorization.learned-fallback.enabled}")
+	private boolean learnedFallback;
+
+	@Autowired
+	private CategoryRuleRepository repository;
+
+	@Autowired
+	private DescriptionSuggestionIndex suggestionIndex;
+
+	private volatile CategoryMatcher matcher = CategoryMatcher.compile(List.of());
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void reload() {
+		matcher = CategoryMatcher.compile(repository.findAll().stream()
+				.map(rule -> new CategoryMatcher.Rule(rule.getPattern(), rule.isRegex(), rule.getCategory().getId(),
+						rule.getPriority()))
+				.toList());
+	}
+
+	public void reloadAfterCommit() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					reload();
+				}
+			});
+		} else {
+			reload();
+		}
+	}
+
+	public Long categorize(String description) {
+		if (description == null || description.isBlank()) {
+			return null;
+		}
+		Long categoryId = matcher.match(description);
+		if (categoryId == null && learnedFallback) {
+			categoryId = suggestionIndex.usualCategory(description);
+		}
+		return categoryId;
+	}
+}
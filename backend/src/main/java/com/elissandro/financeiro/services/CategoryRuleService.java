@@ -0,0 +1,82 @@
+package com.elissandro.financeiro.services;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.dto.CategoryRuleDTO;
+import com.elissandro.financeiro.entities.CategoryRule;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.CategoryRuleRepository;
+import com.elissandro.financeiro.services.exceptions.DatabaseException;
+import com.elissandro.financeiro.services.exceptions.ResourceNotFoundException;
+
+@Service
+public class CategoryRuleService {
+
+	@Autowired
+	private CategoryRuleRepository repository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private CategorizationEngine engine;
+
+	@Transactional(readOnly = true)
+	public List<CategoryRuleDTO> findAll() {
+		return repository.findAll().stream().map(rule -> new CategoryRuleDTO(rule)).toList();
+	}
+
+	public Long categorize(String description) {
+		return engine.categorize(description);
+	}
+
+	@Transactional
+	public CategoryRuleDTO insert(CategoryRuleDTO dto) {
+		CategoryRule rule = new CategoryRule();
+		copyDtoToEntity(dto, rule);
+		rule = repository.save(rule);
+		engine.reloadAfterCommit();
+		return new CategoryRuleDTO(rule);
+	}
+
+	@Transactional
+	public CategoryRuleDTO update(Long id, CategoryRuleDTO dto) {
+		CategoryRule rule = repository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Category rule not found"));
+		copyDtoToEntity(dto, rule);
+		rule = repository.save(rule);
+		engine.reloadAfterCommit();
+		return new CategoryRuleDTO(rule);
+	}
+
+	@Transactional
+	public void delete(Long id) {
+		int deleted;
+		try {
+			deleted = repository.deleteRow(id);
+		} catch (Exception e) {
+			throw new DatabaseException("Could not delete category rule: " + e.getMessage());
+		}
+		if (deleted == 0) {
+			throw new ResourceNotFoundException("Category rule not found");
+		}
+		engine.reloadAfterCommit();
+	}
+
+	private void copyDtoToEntity(CategoryRuleDTO dto, CategoryRule rule) {
+		if (dto.getCategoryId() == null || dto.getPattern() == null || dto.getPattern().isBlank()) {
+			throw new IllegalArgumentException("Category rule pattern and category are required");
+		}
+		if (dto.isRegex()) {
+			Pattern.compile(dto.getPattern());
+		}
+		rule.setPattern(dto.getPattern().trim());
+		rule.setRegex(dto.isRegex());
+		rule.setPriority(dto.getPriority());
+		rule.setCategory(categoryRepository.getReferenceById(dto.getCategoryId()));
+	}
+}
@@ -1,14 +1,26 @@
 package com.elissandro.financeiro.services;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.elissandro.financeiro.dto.CategoryDTO;
+import com.elissandro.financeiro.dto.TransactionFilterDTO;
 import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.events.ChangeAction;
+import com.elissandro.financeiro.events.EntityChangeEvent;
+import com.elissandro.financeiro.events.TransactionBulkChangeEvent;
+import com.elissandro.financeiro.repositories.BudgetRepository;
 import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.CategoryRuleRepository;
+import com.elissandro.financeiro.repositories.InstallmentPlanRepository;
+import com.elissandro.financeiro.repositories.RecurringTransactionRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+import com.elissandro.financeiro.services.exceptions.ConflictException;
 import com.elissandro.financeiro.services.exceptions.DatabaseException;
 import com.elissandro.financeiro.services.exceptions.ResourceNotFoundException;
 
@@ -18,6 +30,39 @@ public class CategoryService {
 	@Autowired
 	private CategoryRepository repository;
 	
+	@Autowired
+	private TransactionRepository transactionRepository;
+	
+	@Autowired
+	private BudgetRepository budgetRepository;
+	
+	@Autowired
+	private CategoryRuleRepository ruleRepository;
+	
+	@Autowired
+	private RecurringTransactionRepository recurringRepository;
+	
+	@Autowired
+	private InstallmentPlanRepository planRepository;
+	
+	@Autowired
+	private ResourceVersionService versionService;
+	
+	@Autowired
+	private BudgetTracker budgetTracker;
+	
+	@Autowired
+	private CategorizationEngine categorizationEngine;
+	
+	@Autowired
+	private SyncVersionService syncVersionService;
+	
+	@Autowired
+	private AuditJournal auditJournal;
+	
+	@Autowired
+	private ApplicationEventPublisher publisher;
+	
 	@Transactional(readOnly = true)
 	public List<CategoryDTO> findAll() {
 		List<Category> categories = repository.findAll();
@@ -35,27 +80,101 @@ public class CategoryService {
 		Category newCategory = new Category();
 		newCategory.setName(category.getName());
 		newCategory = repository.save(newCategory);
-		return new CategoryDTO(newCategory);
+		versionService.increment(ResourceVersionService.CATEGORIES);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.CATEGORIES, ChangeAction.CREATED, newCategory.getId()));
+		CategoryDTO result = new CategoryDTO(newCategory);
+		auditJournal.record(ResourceVersionService.CATEGORIES, ChangeAction.CREATED, result.getId(), null, result);
+		return result;
 	}
 	
+	@Transactional
 	public CategoryDTO update(Long id, CategoryDTO categoryDetails) {
 		Category category = repository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+		if (categoryDetails.getVersion() != null && !categoryDetails.getVersion().equals(category.getVersion())) {
+			throw new ConflictException("Category was modified by another request");
+		}
+		CategoryDTO before = new CategoryDTO(category);
 		
 		category.setName(categoryDetails.getName());
-		category = repository.save(category);
-		return categoryDetails;
+		category = repository.saveAndFlush(category);
+		versionService.increment(ResourceVersionService.CATEGORIES);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.CATEGORIES, ChangeAction.UPDATED, id));
+		CategoryDTO result = new CategoryDTO(category);
+		auditJournal.record(ResourceVersionService.CATEGORIES, ChangeAction.UPDATED, id, before, result);
+		return result;
 	}
 	
-	public void delete(Long id) {
-		if (!repository.existsById(id)) {
+	@Transactional
+	public long patch(Long id, CategoryDTO categoryDetails) {
+		if (categoryDetails.getVersion() == null) {
+			throw new IllegalArgumentException("Category version is required");
+		}
+		Category previous = repository.patchReturning(id, categoryDetails.getVersion(), categoryDetails.getName(),
+				syncVersionService.next()).orElse(null);
+		if (previous == null) {
+			if (!repository.existsById(id)) {
+				throw new ResourceNotFoundException("Category not found");
+			}
+			throw new ConflictException("Category was modified by another request");
+		}
+		CategoryDTO after = new CategoryDTO(id,
+				categoryDetails.getName() != null ? categoryDetails.getName() : previous.getName());
+		after.setVersion(previous.getVersion() + 1);
+		versionService.increment(ResourceVersionService.CATEGORIES);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.CATEGORIES, ChangeAction.UPDATED, id));
+		auditJournal.record(ResourceVersionService.CATEGORIES, ChangeAction.UPDATED, id, new CategoryDTO(previous),
+				after);
+		return after.getVersion();
+	}
+	
+	@Transactional
+	public CategoryDTO mergeInto(Long id, Long targetId) {
+		if (id.equals(targetId)) {
+			throw new IllegalArgumentException("A category cannot be merged into itself");
+		}
+		Category target = repository.findById(targetId)
+				.orElseThrow(() -> new ResourceNotFoundException("Target category not found"));
+		int moved = transactionRepository.reassign("category_id", targetId, null,
+				new TransactionFilterDTO(id, null, null, null, null));
+		budgetRepository.reassignCategory(id, targetId);
+		ruleRepository.reassignCategory(id, targetId);
+		recurringRepository.reassignCategory(id, targetId);
+		planRepository.reassignCategory(id, targetId);
+		if (repository.deleteRow(id) == 0) {
 			throw new ResourceNotFoundException("Category not found");
 		}
+		syncVersionService.tombstone(ResourceVersionService.CATEGORIES, id);
+
+		versionService.increment(ResourceVersionService.CATEGORIES);
+		versionService.increment(ResourceVersionService.TRANSACTIONS);
+		budgetTracker.reloadBudgetsAfterCommit();
+		categorizationEngine.reloadAfterCommit();
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.CATEGORIES, ChangeAction.DELETED, id));
+		publisher.publishEvent(EntityChangeEvent.invalidated(ResourceVersionService.TRANSACTIONS));
+		if (moved > 0) {
+			publisher.publishEvent(new TransactionBulkChangeEvent(moved));
+		}
+		auditJournal.record(ResourceVersionService.CATEGORIES, ChangeAction.DELETED, id, null,
+				Map.of("mergedInto", targetId, "transactionsMoved", moved));
+		return new CategoryDTO(target);
+	}
+	
+	@Transactional
+	public void delete(Long id) {
+		Category deleted;
 		try {
-			repository.deleteById(id);
+			deleted = repository.deleteReturning(id).orElse(null);
 		} catch (Exception e) {
 			throw new DatabaseException("Could not delete category: " + e.getMessage());
 		}
+		if (deleted == null) {
+			throw new ResourceNotFoundException("Category not found");
+		}
+		syncVersionService.tombstone(ResourceVersionService.CATEGORIES, id);
+		versionService.increment(ResourceVersionService.CATEGORIES);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.CATEGORIES, ChangeAction.DELETED, id));
+		auditJournal.record(ResourceVersionService.CATEGORIES, ChangeAction.DELETED, id, new CategoryDTO(deleted), null);
 	}
 
 }
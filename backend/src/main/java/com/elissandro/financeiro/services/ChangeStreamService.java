@@ -0,0 +1,216 @@
+package com.elissandro.financeiro.services;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.elissandro.financeiro.events.EntityChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class ChangeStreamService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChangeStreamService.class);
+
+	@Value("${stream.timeout-ms}")
+	private long timeoutMs;
+
+	@Value("${stream.client-queue-capacity}")
+	private int queueCapacity;
+
+	@Value("${stream.send-timeout-ms}")
+	private long sendTimeoutMs;
+
+	@Value("${stream.max-senders}")
+	private int maxSenders;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+	private final AtomicLong sequence = new AtomicLong();
+	private ThreadPoolExecutor senders;
+
+	@PostConstruct
+	public void start() {
+		senders = new ThreadPoolExecutor(maxSenders, maxSenders, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "change-stream");
+					thread.setDaemon(true);
+					return thread;
+				});
+		senders.allowCoreThreadTimeOut(true);
+	}
+
+	public SseEmitter subscribe() {
+		return subscribe(new SseEmitter(timeoutMs));
+	}
+
+	SseEmitter subscribe(SseEmitter emitter) {
+		Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(() -> remove(subscriber));
+		emitter.onError(e -> remove(subscriber));
+		subscribers.add(subscriber);
+		dispatch(subscriber, SseEmitter.event().comment("connected").build());
+		return emitter;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onChange(EntityChangeEvent event) throws JsonProcessingException {
+		if (subscribers.isEmpty()) {
+			return;
+		}
+		Map<String, Object> payload = new LinkedHashMap<>();
+		payload.put("resource", event.getResource());
+		payload.put("action", event.getAction());
+		payload.put("id", event.getId());
+		Set<DataWithMediaType> message = SseEmitter.event()
+				.id(String.valueOf(sequence.incrementAndGet()))
+				.name(event.getResource())
+				.data(objectMapper.writeValueAsString(payload))
+				.build();
+		for (Subscriber subscriber : subscribers) {
+			dispatch(subscriber, message);
+		}
+	}
+
+	@Scheduled(fixedRateString = "${stream.heartbeat-ms}")
+	public void heartbeat() {
+		if (subscribers.isEmpty()) {
+			return;
+		}
+		Set<DataWithMediaType> message = SseEmitter.event().comment("heartbeat").build();
+		for (Subscriber subscriber : subscribers) {
+			dispatch(subscriber, message);
+		}
+	}
+
+	// A blocked write holds the emitter's lock, so a stalled subscriber is only unlinked and its sender
+	// interrupted here; the emitter is completed by the sender once the write returns or fails.
+	@Scheduled(fixedDelayString = "${stream.send-timeout-ms}")
+	public void evictStalled() {
+		long deadline = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+		for (Subscriber subscriber : subscribers) {
+			long since = subscriber.sendingSince;
+			if (since != 0 && since - deadline < 0) {
+				logger.info("Evicting change stream subscriber stalled in a send for more than {} ms", sendTimeoutMs);
+				evict(subscriber);
+				synchronized (subscriber) {
+					if (subscriber.sender != null) {
+						subscriber.sender.interrupt();
+					}
+				}
+			}
+		}
+	}
+
+	public int subscriberCount() {
+		return subscribers.size();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		senders.shutdownNow();
+		subscribers.forEach(subscriber -> subscriber.emitter.complete());
+	}
+
+	private void dispatch(Subscriber subscriber, Set<DataWithMediaType> message) {
+		if (!subscriber.queue.offer(message)) {
+			logger.info("Evicting slow change stream subscriber after {} queued events", queueCapacity);
+			evict(subscriber);
+			return;
+		}
+		schedule(subscriber);
+	}
+
+	// Only the thread holding the draining flag sends to or completes an emitter, so each subscriber
+	// has at most one send in flight and occupies at most one sender thread.
+	private void schedule(Subscriber subscriber) {
+		if (subscriber.draining.compareAndSet(false, true)) {
+			senders.execute(() -> drain(subscriber));
+		}
+	}
+
+	private void drain(Subscriber subscriber) {
+		try {
+			Set<DataWithMediaType> message;
+			while (!subscriber.removed && (message = subscriber.queue.poll()) != null) {
+				synchronized (subscriber) {
+					subscriber.sender = Thread.currentThread();
+				}
+				subscriber.sendingSince = System.nanoTime();
+				try {
+					subscriber.emitter.send(message);
+				} finally {
+					subscriber.sendingSince = 0;
+					synchronized (subscriber) {
+						subscriber.sender = null;
+						Thread.interrupted();
+					}
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			remove(subscriber);
+		}
+		if (subscriber.removed) {
+			subscriber.queue.clear();
+			subscriber.emitter.complete();
+			return;
+		}
+		subscriber.draining.set(false);
+		if (subscriber.removed || !subscriber.queue.isEmpty()) {
+			schedule(subscriber);
+		}
+	}
+
+	private void evict(Subscriber subscriber) {
+		if (remove(subscriber)) {
+			subscriber.queue.clear();
+			schedule(subscriber);
+		}
+	}
+
+	private boolean remove(Subscriber subscriber) {
+		subscriber.removed = true;
+		return subscribers.remove(subscriber);
+	}
+
+	private static class Subscriber {
+
+		private final SseEmitter emitter;
+		private final Queue<Set<DataWithMediaType>> queue;
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private volatile boolean removed;
+		private volatile long sendingSince;
+		private Thread sender;
+
+		Subscriber(SseEmitter emitter, int capacity) {
+			this.emitter = emitter;
+			this.queue = new ArrayBlockingQueue<>(capacity);
+		}
+	}
+}
@@ -0,0 +1,258 @@
+package com.elissandro.financeiro.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.elissandro.financeiro.dto.DescriptionSuggestionDTO;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.events.TransactionBulkChangeEvent;
+import com.elissandro.financeiro.projections.DescriptionCategoryCountProjection;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+import com.elissandro.financeiro.util.Descriptions;
+
+@Service
+public class DescriptionSuggestionIndex {
+
+	private static final int MAX_RECENT = 1024;
+	private static final Comparator<Entry> BY_COUNT = Comparator.comparingInt(entry -> entry.count.get());
+
+	@Autowired
+	private TransactionRepository repository;
+
+	// apply() adds to the live recent map under the read lock; compaction and rebuilds swap the
+	// sorted array and a fresh recent map together under the write lock so no insert is dropped
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private volatile State state = new State(Sorted.of(Map.of()), new ConcurrentSkipListMap<>());
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		Map<String, Entry> entries = new HashMap<>();
+		for (DescriptionCategoryCountProjection row : repository.countByDescriptionAndCategory()) {
+			String key = Descriptions.normalize(row.getDescription());
+			if (key.isEmpty()) {
+				continue;
+			}
+			Entry entry = entries.computeIfAbsent(key, k -> new Entry(row.getDescription().trim()));
+			entry.add(row.getCategoryId(), row.getCount().intValue());
+		}
+		Sorted rebuilt = Sorted.of(entries);
+		lock.writeLock().lock();
+		try {
+			state = new State(rebuilt, new ConcurrentSkipListMap<>());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Async
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBulkChange(TransactionBulkChangeEvent event) {
+		rebuild();
+	}
+
+	public void record(Transaction before, Transaction after) {
+		String removed = before != null ? before.getDescription() : null;
+		Long removedCategory = before != null && before.getCategory() != null ? before.getCategory().getId() : null;
+		String added = after != null ? after.getDescription() : null;
+		Long addedCategory = after != null && after.getCategory() != null ? after.getCategory().getId() : null;
+		afterCommit(() -> {
+			apply(removed, removedCategory, -1);
+			apply(added, addedCategory, 1);
+		});
+	}
+
+	public List<DescriptionSuggestionDTO> suggest(String prefix, int limit) {
+		String key = Descriptions.normalize(prefix);
+		if (key.isEmpty()) {
+			return List.of();
+		}
+		PriorityQueue<Entry> top = new PriorityQueue<>(limit + 1, BY_COUNT);
+		State current = state;
+		int index = current.sorted.lowerBound(key);
+		while (index < current.sorted.keys.length && current.sorted.keys[index].startsWith(key)) {
+			offer(top, current.sorted.entries[index++], limit);
+		}
+		for (Entry entry : current.recent.subMap(key, key + Character.MAX_VALUE).values()) {
+			offer(top, entry, limit);
+		}
+
+		List<DescriptionSuggestionDTO> result = new ArrayList<>(top.size());
+		while (!top.isEmpty()) {
+			Entry entry = top.poll();
+			result.add(0, new DescriptionSuggestionDTO(entry.description, entry.usualCategory(), entry.count.get()));
+		}
+		return result;
+	}
+
+	public Long usualCategory(String description) {
+		String key = Descriptions.normalize(description);
+		if (key.isEmpty()) {
+			return null;
+		}
+		State current = state;
+		Entry entry = current.sorted.get(key);
+		if (entry == null) {
+			entry = current.recent.get(key);
+		}
+		return entry != null && entry.count.get() > 0 ? entry.usualCategory() : null;
+	}
+
+	private void apply(String description, Long categoryId, int delta) {
+		String key = Descriptions.normalize(description);
+		if (key.isEmpty()) {
+			return;
+		}
+		boolean full;
+		lock.readLock().lock();
+		try {
+			State current = state;
+			Entry entry = current.sorted.get(key);
+			if (entry == null) {
+				if (delta < 0) {
+					entry = current.recent.get(key);
+				} else {
+					entry = current.recent.computeIfAbsent(key, k -> new Entry(description.trim()));
+				}
+			}
+			if (entry != null) {
+				entry.add(categoryId, delta);
+			}
+			full = current.recent.size() > MAX_RECENT;
+		} finally {
+			lock.readLock().unlock();
+		}
+		if (full) {
+			compact();
+		}
+	}
+
+	private void compact() {
+		lock.writeLock().lock();
+		try {
+			State current = state;
+			if (current.recent.size() <= MAX_RECENT) {
+				return;
+			}
+			Map<String, Entry> entries = new HashMap<>(current.recent);
+			for (int i = 0; i < current.sorted.keys.length; i++) {
+				entries.put(current.sorted.keys[i], current.sorted.entries[i]);
+			}
+			state = new State(Sorted.of(entries), new ConcurrentSkipListMap<>());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static void offer(PriorityQueue<Entry> top, Entry entry, int limit) {
+		if (entry.count.get() <= 0) {
+			return;
+		}
+		top.offer(entry);
+		if (top.size() > limit) {
+			top.poll();
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	private static class State {
+
+		private final Sorted sorted;
+		private final ConcurrentSkipListMap<String, Entry> recent;
+
+		State(Sorted sorted, ConcurrentSkipListMap<String, Entry> recent) {
+			this.sorted = sorted;
+			this.recent = recent;
+		}
+	}
+
+	private static class Sorted {
+
+		private final String[] keys;
+		private final Entry[] entries;
+
+		Sorted(String[] keys, Entry[] entries) {
+			this.keys = keys;
+			this.entries = entries;
+		}
+
+		static Sorted of(Map<String, Entry> map) {
+			String[] keys = map.keySet().toArray(new String[0]);
+			Arrays.sort(keys);
+			Entry[] entries = new Entry[keys.length];
+			for (int i = 0; i < keys.length; i++) {
+				entries[i] = map.get(keys[i]);
+			}
+			return new Sorted(keys, entries);
+		}
+
+		Entry get(String key) {
+			int index = Arrays.binarySearch(keys, key);
+			return index >= 0 ? entries[index] : null;
+		}
+
+		int lowerBound(String key) {
+			int index = Arrays.binarySearch(keys, key);
+			return index >= 0 ? index : -index - 1;
+		}
+	}
+
+	private static class Entry {
+
+		private final String description;
+		private final AtomicInteger count = new AtomicInteger();
+		private final Map<Long, AtomicInteger> categories = new ConcurrentHashMap<>(2);
+
+		Entry(String description) {
+			this.description = description;
+		}
+
+		void add(Long categoryId, int delta) {
+			count.addAndGet(delta);
+			if (categoryId != null) {
+				categories.computeIfAbsent(categoryId, id -> new AtomicInteger()).addAndGet(delta);
+			}
+		}
+
+		Long usualCategory() {
+			Long usual = null;
+			int best = 0;
+			for (Map.Entry<Long, AtomicInteger> category : categories.entrySet()) {
+				if (category.getValue().get() > best) {
+					best = category.getValue().get();
+					usual = category.getKey();
+				}
+			}
+			return usual;
+		}
+	}
+}
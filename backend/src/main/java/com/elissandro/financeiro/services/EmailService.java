@@ -7,6 +7,7 @@ import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import com.elissandro.financeiro.jfr.EmailSendEvent;
 import com.elissandro.financeiro.services.exceptions.EmailException;
 
 @Service
@@ -19,6 +20,8 @@ public class EmailService {
     private JavaMailSender emailSender;
 
     public void sendEmail(String to, String subject, String body) {
+    	EmailSendEvent event = new EmailSendEvent();
+    	event.begin();
         try{
             SimpleMailMessage message = new SimpleMailMessage();
             message.setFrom(emailFrom);
@@ -26,10 +29,14 @@ public class EmailService {
             message.setSubject(subject);
             message.setText(body);
             emailSender.send(message);
+            event.success = true;
         } 
         catch (MailException e){
         	e.printStackTrace(); // Mostra erro real no log
             throw new EmailException("Erro ao enviar email: " + e.getMessage());
         } 
+        finally {
+        	event.commit();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+package com.elissandro.financeiro.services;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.elissandro.financeiro.entities.IdempotencyRecord;
+import com.elissandro.financeiro.repositories.IdempotencyRecordRepository;
+import com.elissandro.financeiro.services.exceptions.ConflictException;
+import com.elissandro.financeiro.util.Fingerprints;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Service
+public class IdempotencyService {
+
+	private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	@Value("${idempotency.ttl-seconds}")
+	private long ttlSeconds;
+
+	@Value("${idempotency.memory-capacity}")
+	private int memoryCapacity;
+
+	@Value("${idempotency.wait-ms}")
+	private long waitMs;
+
+	@Autowired
+	private IdempotencyRecordRepository repository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final Map<String, CompletableFuture<Stored>> inFlight = new ConcurrentHashMap<>();
+	private final Map<String, Stored> completed = new LinkedHashMap<>();
+
+	public <T> T execute(String key, String scope, Object request, Class<T> type, Supplier<T> action) {
+		if (key == null) {
+			return action.get();
+		}
+		if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+			throw new IllegalArgumentException("Idempotency-Key must have between 1 and " + MAX_KEY_LENGTH + " characters");
+		}
+		String id = Fingerprints.sha256(AuthService.currentUsername() + "\n" + scope + "\n" + key);
+		String requestHash = Fingerprints.sha256(json(request));
+
+		Stored stored = remembered(id);
+		if (stored != null) {
+			return replay(stored, requestHash, type);
+		}
+		CompletableFuture<Stored> pending = new CompletableFuture<>();
+		CompletableFuture<Stored> leader = inFlight.putIfAbsent(id, pending);
+		if (leader != null) {
+			return replay(await(leader), requestHash, type);
+		}
+		try {
+			try {
+				stored = transactionTemplate.execute(status -> {
+					try {
+						repository.claim(id, requestHash, Instant.now());
+					} catch (DataIntegrityViolationException e) {
+						throw new AlreadyClaimedException();
+					}
+					String response = json(action.get());
+					repository.complete(id, response);
+					return new Stored(requestHash, response, Instant.now());
+				});
+			} catch (AlreadyClaimedException e) {
+				IdempotencyRecord record = repository.findById(id)
+						.orElseThrow(() -> new ConflictException("A request with this idempotency key is still in progress"));
+				stored = new Stored(record.getRequestHash(), record.getResponse(), record.getCreatedAt());
+			}
+			remember(id, stored);
+			pending.complete(stored);
+			return replay(stored, requestHash, type);
+		} catch (RuntimeException e) {
+			pending.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(id, pending);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${idempotency.cleanup-ms}")
+	@Transactional
+	public void purgeExpired() {
+		Instant cutoff = Instant.now().minusSeconds(ttlSeconds);
+		int purged = repository.deleteExpired(cutoff);
+		synchronized (completed) {
+			evictExpired(cutoff);
+		}
+		if (purged > 0) {
+			logger.info("Purged {} expired idempotency keys", purged);
+		}
+	}
+
+	private Stored remembered(String id) {
+		synchronized (completed) {
+			evictExpired(Instant.now().minusSeconds(ttlSeconds));
+			return completed.get(id);
+		}
+	}
+
+	private void remember(String id, Stored stored) {
+		synchronized (completed) {
+			completed.put(id, stored);
+			Iterator<Stored> it = completed.values().iterator();
+			while (completed.size() > memoryCapacity && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		}
+	}
+
+	private void evictExpired(Instant cutoff) {
+		Iterator<Stored> it = completed.values().iterator();
+		while (it.hasNext() && it.next().createdAt().isBefore(cutoff)) {
+			it.remove();
+		}
+	}
+
+	private Stored await(CompletableFuture<Stored> leader) {
+		try {
+			return leader.get(waitMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw new ConflictException("A request with this idempotency key is still in progress");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ConflictException("Interrupted while waiting for a request with the same idempotency key");
+		}
+	}
+
+	private <T> T replay(Stored stored, String requestHash, Class<T> type) {
+		if (!stored.requestHash().equals(requestHash)) {
+			throw new ConflictException("Idempotency key was already used with a different request");
+		}
+		try {
+			return objectMapper.readValue(stored.response(), type);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not replay stored response", e);
+		}
+	}
+
+	private String json(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Could not serialize idempotent request: " + e.getMessage());
+		}
+	}
+
+	private record Stored(String requestHash, String response, Instant createdAt) {
+	}
+
+	private static class AlreadyClaimedException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+	}
+}
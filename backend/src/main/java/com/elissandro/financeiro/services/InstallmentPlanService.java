@@ -0,0 +1,176 @@
+package com.elissandro.financeiro.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.dto.InstallmentDTO;
+import com.elissandro.financeiro.dto.InstallmentPlanDTO;
+import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.entities.InstallmentPlan;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.events.EntityChangeEvent;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.InstallmentPlanRepository;
+import com.elissandro.financeiro.repositories.MemberRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+import com.elissandro.financeiro.services.exceptions.DatabaseException;
+import com.elissandro.financeiro.services.exceptions.ResourceNotFoundException;
+import com.elissandro.financeiro.util.Money;
+
+@Service
+public class InstallmentPlanService {
+
+	private static final int MAX_INSTALLMENTS = 120;
+
+	@Autowired
+	private InstallmentPlanRepository repository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private InstallmentSchedule schedule;
+
+	@Autowired
+	private ResourceVersionService versionService;
+
+	@Autowired
+	private BudgetTracker budgetTracker;
+
+	@Autowired
+	private DescriptionSuggestionIndex suggestionIndex;
+
+	@Autowired
+	private ApplicationEventPublisher publisher;
+
+	@Transactional(readOnly = true)
+	public List<InstallmentPlanDTO> findAll() {
+		return repository.findAll().stream().map(plan -> new InstallmentPlanDTO(plan)).toList();
+	}
+
+	@Transactional(readOnly = true)
+	public List<InstallmentDTO> findInstallments(Long id) {
+		InstallmentPlan plan = repository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Installment plan not found"));
+		List<Transaction> installments = new ArrayList<>(transactionRepository.findByInstallmentPlanId(id));
+		installments.addAll(schedule.virtualInstallments(plan));
+		installments.sort((a, b) -> a.getInstallmentNumber().compareTo(b.getInstallmentNumber()));
+		return installments.stream().map(installment -> new InstallmentDTO(installment)).toList();
+	}
+
+	@Transactional(readOnly = true)
+	public List<InstallmentDTO> findInstallments(LocalDate from, LocalDate to) {
+		if (to.isBefore(from)) {
+			throw new IllegalArgumentException("'to' must not be before 'from'");
+		}
+		return schedule.virtualInstallments(from, to).stream().map(installment -> new InstallmentDTO(installment)).toList();
+	}
+
+	@Transactional
+	public InstallmentPlanDTO insert(InstallmentPlanDTO dto) {
+		if (dto.getCategoryId() == null || dto.getTransactionType() == null || dto.getFirstDueDate() == null) {
+			throw new IllegalArgumentException("Installment plan category, type and first due date are required");
+		}
+		if (dto.getTotalAmount() == null || dto.getTotalAmount().compareTo(BigDecimal.ZERO) <= 0) {
+			throw new IllegalArgumentException("Installment plan total must be positive");
+		}
+		if (dto.getInstallmentCount() == null || dto.getInstallmentCount() < 1 || dto.getInstallmentCount() > MAX_INSTALLMENTS) {
+			throw new IllegalArgumentException("Installment count must be between 1 and " + MAX_INSTALLMENTS);
+		}
+		InstallmentPlan plan = new InstallmentPlan();
+		plan.setTotalAmount(Money.normalize(dto.getTotalAmount()));
+		plan.setInstallmentCount(dto.getInstallmentCount());
+		plan.setFirstDueDate(dto.getFirstDueDate());
+		plan.setLastDueDate(dto.getFirstDueDate().plusMonths(dto.getInstallmentCount() - 1));
+		plan.setDescription(dto.getDescription());
+		plan.setTransactionType(dto.getTransactionType());
+		plan.setCategory(categoryRepository.getReferenceById(dto.getCategoryId()));
+		plan.setMember(dto.getMemberId() != null ? memberRepository.getReferenceById(dto.getMemberId()) : null);
+		plan = repository.save(plan);
+		versionService.increment(ResourceVersionService.TRANSACTIONS);
+		publisher.publishEvent(EntityChangeEvent.invalidated(ResourceVersionService.TRANSACTIONS));
+		for (int number = 1; number <= plan.getInstallmentCount(); number++) {
+			budgetTracker.record(null, InstallmentSchedule.installment(plan, number));
+		}
+		return new InstallmentPlanDTO(plan);
+	}
+
+	@Transactional
+	public TransactionDTO updateInstallment(Long id, Integer number, TransactionDTO dto) {
+		InstallmentPlan plan = repository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Installment plan not found"));
+		if (number < 1 || number > plan.getInstallmentCount()) {
+			throw new IllegalArgumentException("Installment number must be between 1 and " + plan.getInstallmentCount());
+		}
+		Transaction virtual = InstallmentSchedule.installment(plan, number);
+		Transaction transaction = transactionRepository.findByInstallmentPlanIdAndInstallmentNumber(id, number)
+				.orElse(null);
+		Transaction before = virtual;
+		if (transaction == null) {
+			transaction = virtual;
+		} else {
+			before = new Transaction(transaction.getId(), transaction.getAmount(), transaction.getDescription(),
+					transaction.getDate(), transaction.getCategory(), transaction.getMember(),
+					transaction.getTransactionType());
+		}
+		if (dto.getAmount() != null) {
+			transaction.setAmount(Money.normalize(dto.getAmount()));
+		}
+		if (dto.getDate() != null) {
+			transaction.setDate(dto.getDate());
+		}
+		if (dto.getDescription() != null) {
+			transaction.setDescription(dto.getDescription());
+		}
+		if (dto.getTransactionType() != null) {
+			transaction.setTransactionType(dto.getTransactionType());
+		}
+		if (dto.getCategory() != null) {
+			transaction.setCategory(categoryRepository.getReferenceById(dto.getCategory().getId()));
+		}
+		if (dto.getMemberId() != null) {
+			transaction.setMember(memberRepository.getReferenceById(dto.getMemberId()));
+		}
+		transaction = transactionRepository.save(transaction);
+		versionService.increment(ResourceVersionService.TRANSACTIONS);
+		publisher.publishEvent(EntityChangeEvent.invalidated(ResourceVersionService.TRANSACTIONS));
+		budgetTracker.record(before, transaction);
+		suggestionIndex.record(before.getId() != null ? before : null, transaction);
+		return new TransactionDTO(transaction);
+	}
+
+	@Transactional
+	public void delete(Long id) {
+		InstallmentPlan plan = repository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Installment plan not found"));
+		List<Transaction> materialized = transactionRepository.findByInstallmentPlanId(id);
+		List<Transaction> virtual = schedule.virtualInstallments(plan);
+		try {
+			transactionRepository.deleteAll(materialized);
+			repository.delete(plan);
+			repository.flush();
+		} catch (Exception e) {
+			throw new DatabaseException("Could not delete installment plan: " + e.getMessage());
+		}
+		versionService.increment(ResourceVersionService.TRANSACTIONS);
+		publisher.publishEvent(EntityChangeEvent.invalidated(ResourceVersionService.TRANSACTIONS));
+		materialized.forEach(transaction -> {
+			budgetTracker.record(transaction, null);
+			suggestionIndex.record(transaction, null);
+		});
+		virtual.forEach(installment -> budgetTracker.record(installment, null));
+	}
+}
@@ -0,0 +1,194 @@
+package com.elissandro.financeiro.services;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.elissandro.financeiro.entities.InstallmentPlan;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.projections.InstallmentNumberProjection;
+import com.elissandro.financeiro.projections.InstallmentScheduleProjection;
+import com.elissandro.financeiro.repositories.InstallmentPlanRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+import com.elissandro.financeiro.util.Money;
+
+@Service
+public class InstallmentSchedule {
+
+	@Autowired
+	private InstallmentPlanRepository planRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	public List<Transaction> virtualInstallments(LocalDate from, LocalDate to) {
+		List<InstallmentPlan> plans = planRepository.findOverlapping(from, to);
+		Set<String> materialized = materialized(plans);
+		List<Transaction> result = new ArrayList<>();
+		for (InstallmentPlan plan : plans) {
+			for (int number = 1; number <= plan.getInstallmentCount(); number++) {
+				LocalDate date = dueDate(plan, number);
+				if (date.isAfter(to)) {
+					break;
+				}
+				if (!date.isBefore(from) && !materialized.contains(key(plan.getId(), number))) {
+					result.add(installment(plan, number));
+				}
+			}
+		}
+		result.sort(Comparator.comparing(Transaction::getDate));
+		return result;
+	}
+
+	public VirtualCounts virtualCounts() {
+		List<InstallmentScheduleProjection> plans = planRepository.findSchedules();
+		Map<Long, LocalDate> firstDueDates = new HashMap<>();
+		for (InstallmentScheduleProjection plan : plans) {
+			firstDueDates.put(plan.getId(), plan.getFirstDueDate());
+		}
+		List<LocalDate> materialized = new ArrayList<>();
+		for (InstallmentNumberProjection row : transactionRepository.findAllInstallmentNumbers()) {
+			materialized.add(firstDueDates.get(row.getPlanId()).plusMonths(row.getInstallmentNumber() - 1));
+		}
+		return new VirtualCounts(plans, materialized);
+	}
+
+	public List<Transaction> virtualInstallments(InstallmentPlan plan) {
+		Set<String> materialized = materialized(List.of(plan));
+		List<Transaction> result = new ArrayList<>(plan.getInstallmentCount());
+		for (int number = 1; number <= plan.getInstallmentCount(); number++) {
+			if (!materialized.contains(key(plan.getId(), number))) {
+				result.add(installment(plan, number));
+			}
+		}
+		return result;
+	}
+
+	public Transaction virtualInstallment(Transaction materialized) {
+		if (materialized.getInstallmentPlan() == null) {
+			return null;
+		}
+		return planRepository.findById(materialized.getInstallmentPlan().getId())
+				.map(plan -> installment(plan, materialized.getInstallmentNumber()))
+				.orElse(null);
+	}
+
+	public long balanceBefore(LocalDate date) {
+		List<InstallmentPlan> plans = planRepository.findStartedBefore(date);
+		Set<String> materialized = materialized(plans);
+		long cents = 0L;
+		for (InstallmentPlan plan : plans) {
+			for (int number = 1; number <= plan.getInstallmentCount(); number++) {
+				if (!dueDate(plan, number).isBefore(date)) {
+					break;
+				}
+				if (!materialized.contains(key(plan.getId(), number))) {
+					long amount = installmentCents(plan, number);
+					cents += Money.signedCents(Money.fromCents(amount), plan.getTransactionType());
+				}
+			}
+		}
+		return cents;
+	}
+
+	public static Transaction installment(InstallmentPlan plan, int number) {
+		Transaction transaction = new Transaction(null, Money.fromCents(installmentCents(plan, number)),
+				plan.getDescription() + " (" + number + "/" + plan.getInstallmentCount() + ")",
+				dueDate(plan, number), plan.getCategory(), plan.getMember(), plan.getTransactionType());
+		transaction.setInstallmentPlan(plan);
+		transaction.setInstallmentNumber(number);
+		return transaction;
+	}
+
+	public static LocalDate dueDate(InstallmentPlan plan, int number) {
+		return plan.getFirstDueDate().plusMonths(number - 1);
+	}
+
+	public static long installmentCents(InstallmentPlan plan, int number) {
+		long total = Money.toCents(plan.getTotalAmount());
+		long base = total / plan.getInstallmentCount();
+		return number == 1 ? base + total % plan.getInstallmentCount() : base;
+	}
+
+	private Set<String> materialized(List<InstallmentPlan> plans) {
+		Set<String> keys = new HashSet<>();
+		if (plans.isEmpty()) {
+			return keys;
+		}
+		List<Long> ids = plans.stream().map(InstallmentPlan::getId).toList();
+		for (InstallmentNumberProjection row : transactionRepository.findInstallmentNumbers(ids)) {
+			keys.add(key(row.getPlanId(), row.getInstallmentNumber()));
+		}
+		return keys;
+	}
+
+	private static String key(Long planId, Integer number) {
+		return planId + ":" + number;
+	}
+
+	// Counts the virtual installments due around a date from the plan schedules alone, so listings can place them
+	// without expanding every plan.
+	public static class VirtualCounts {
+
+		private final List<InstallmentScheduleProjection> plans;
+		private final List<LocalDate> materialized;
+		private final long total;
+
+		private VirtualCounts(List<InstallmentScheduleProjection> plans, List<LocalDate> materialized) {
+			this.plans = plans;
+			this.materialized = materialized;
+			this.total = plans.stream().mapToLong(InstallmentScheduleProjection::getInstallmentCount).sum()
+					- materialized.size();
+		}
+
+		public long total() {
+			return total;
+		}
+
+		public LocalDate firstDueDate() {
+			return plans.stream().map(InstallmentScheduleProjection::getFirstDueDate).min(Comparator.naturalOrder())
+					.orElse(null);
+		}
+
+		public LocalDate lastDueDate() {
+			return plans.stream().map(InstallmentScheduleProjection::getLastDueDate).max(Comparator.naturalOrder())
+					.orElse(null);
+		}
+
+		public long dueBefore(LocalDate date) {
+			long count = 0L;
+			for (InstallmentScheduleProjection plan : plans) {
+				count += dueBefore(plan.getFirstDueDate(), plan.getInstallmentCount(), date);
+			}
+			for (LocalDate dueDate : materialized) {
+				if (dueDate.isBefore(date)) {
+					count--;
+				}
+			}
+			return count;
+		}
+
+		public long dueAfter(LocalDate date) {
+			return total - dueBefore(date.plusDays(1));
+		}
+
+		private static long dueBefore(LocalDate firstDueDate, int installmentCount, LocalDate date) {
+			long months = ChronoUnit.MONTHS.between(YearMonth.from(firstDueDate), YearMonth.from(date));
+			if (months < 0) {
+				return 0L;
+			}
+			long due = firstDueDate.plusMonths(months).isBefore(date) ? months + 1 : months;
+			return Math.min(due, installmentCount);
+		}
+	}
+}
@@ -2,14 +2,25 @@ package com.elissandro.financeiro.services;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.elissandro.financeiro.dto.MemberDTO;
+import com.elissandro.financeiro.dto.TransactionFilterDTO;
 import com.elissandro.financeiro.entities.Member;
+import com.elissandro.financeiro.events.ChangeAction;
+import com.elissandro.financeiro.events.EntityChangeEvent;
+import com.elissandro.financeiro.events.TransactionBulkChangeEvent;
+import com.elissandro.financeiro.repositories.BudgetRepository;
+import com.elissandro.financeiro.repositories.InstallmentPlanRepository;
 import com.elissandro.financeiro.repositories.MemberRepository;
+import com.elissandro.financeiro.repositories.RecurringTransactionRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+import com.elissandro.financeiro.services.exceptions.ConflictException;
 import com.elissandro.financeiro.services.exceptions.DatabaseException;
 import com.elissandro.financeiro.services.exceptions.ResourceNotFoundException;
 
@@ -18,10 +29,37 @@ public class MemberService {
 
 	@Autowired
 	private MemberRepository repository;
+	
+	@Autowired
+	private TransactionRepository transactionRepository;
+	
+	@Autowired
+	private BudgetRepository budgetRepository;
+	
+	@Autowired
+	private RecurringTransactionRepository recurringRepository;
+	
+	@Autowired
+	private InstallmentPlanRepository planRepository;
+	
+	@Autowired
+	private ResourceVersionService versionService;
+	
+	@Autowired
+	private BudgetTracker budgetTracker;
+	
+	@Autowired
+	private SyncVersionService syncVersionService;
+	
+	@Autowired
+	private AuditJournal auditJournal;
+	
+	@Autowired
+	private ApplicationEventPublisher publisher;
 
 	@Transactional(readOnly = true)
 	public List<MemberDTO> findAll() {
-		List<Member> members = repository.findAll();
+		List<Member> members = repository.findByArchivedAtIsNull();
 		return members.stream().map(mem -> new MemberDTO(mem)).toList();
 	}
 
@@ -31,27 +69,123 @@ public class MemberService {
 		newMember.setRole(member.getRole());
 		newMember.setCreatedAt(member.getCreatedAt() != null ? member.getCreatedAt() : LocalDate.now());
 		newMember = repository.save(newMember);
-		return new MemberDTO(newMember);
+		versionService.increment(ResourceVersionService.MEMBERS);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.MEMBERS, ChangeAction.CREATED, newMember.getId()));
+		MemberDTO result = new MemberDTO(newMember);
+		auditJournal.record(ResourceVersionService.MEMBERS, ChangeAction.CREATED, result.getId(), null, result);
+		return result;
 	}
 
 	
+	@Transactional
 	public MemberDTO update(Long id, MemberDTO memberDetails) {
 		Member member = repository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Member not found"));
+		if (memberDetails.getVersion() != null && !memberDetails.getVersion().equals(member.getVersion())) {
+			throw new ConflictException("Member was modified by another request");
+		}
+		MemberDTO before = new MemberDTO(member);
 
 		member.setName(memberDetails.getName());
 		member.setRole(memberDetails.getRole());
-		member = repository.save(member);
-		return memberDetails;
+		member = repository.saveAndFlush(member);
+		versionService.increment(ResourceVersionService.MEMBERS);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.MEMBERS, ChangeAction.UPDATED, id));
+		MemberDTO result = new MemberDTO(member);
+		auditJournal.record(ResourceVersionService.MEMBERS, ChangeAction.UPDATED, id, before, result);
+		return result;
 	}
 
-	public void delete(Long id) {
-		if (!repository.existsById(id)) {
-			throw new ResourceNotFoundException("Member not found");
+	@Transactional
+	public long patch(Long id, MemberDTO memberDetails) {
+		if (memberDetails.getVersion() == null) {
+			throw new IllegalArgumentException("Member version is required");
+		}
+		Member previous = repository.patchReturning(id, memberDetails.getVersion(), memberDetails.getName(),
+				memberDetails.getRole(), syncVersionService.next()).orElse(null);
+		if (previous == null) {
+			if (!repository.existsById(id)) {
+				throw new ResourceNotFoundException("Member not found");
+			}
+			throw new ConflictException("Member was modified by another request");
+		}
+		MemberDTO before = new MemberDTO(previous);
+		MemberDTO after = new MemberDTO(previous);
+		if (memberDetails.getName() != null) {
+			after.setName(memberDetails.getName());
 		}
+		if (memberDetails.getRole() != null) {
+			after.setRole(memberDetails.getRole());
+		}
+		after.setVersion(previous.getVersion() + 1);
+		versionService.increment(ResourceVersionService.MEMBERS);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.MEMBERS, ChangeAction.UPDATED, id));
+		auditJournal.record(ResourceVersionService.MEMBERS, ChangeAction.UPDATED, id, before, after);
+		return after.getVersion();
+	}
+
+	@Transactional
+	public void delete(Long id) {
+		Member deleted;
 		try {
-			repository.deleteById(id);
+			deleted = repository.deleteReturning(id).orElse(null);
 		} catch (Exception e) {
-			throw new DatabaseException("Could not delete member with id " + id);
+			throw new DatabaseException("Could not delete member with id " + id
+					+ "; archive it or reassign its transactions to another member");
+		}
+		if (deleted == null) {
+			throw new ResourceNotFoundException("Member not found");
+		}
+		syncVersionService.tombstone(ResourceVersionService.MEMBERS, id);
+		versionService.increment(ResourceVersionService.MEMBERS);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.MEMBERS, ChangeAction.DELETED, id));
+		auditJournal.record(ResourceVersionService.MEMBERS, ChangeAction.DELETED, id, new MemberDTO(deleted), null);
+	}
+
+	@Transactional
+	public void archive(Long id) {
+		LocalDate archivedAt = LocalDate.now();
+		int archived = repository.archive(id, archivedAt, syncVersionService.next());
+		if (archived == 0) {
+			if (!repository.existsById(id)) {
+				throw new ResourceNotFoundException("Member not found");
+			}
+			return;
+		}
+		versionService.increment(ResourceVersionService.MEMBERS);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.MEMBERS, ChangeAction.UPDATED, id));
+		auditJournal.record(ResourceVersionService.MEMBERS, ChangeAction.UPDATED, id, null,
+				Map.of("archivedAt", archivedAt));
+	}
+
+	@Transactional
+	public void reassignTo(Long id, Long targetId) {
+		if (id.equals(targetId)) {
+			throw new IllegalArgumentException("A member cannot be reassigned to itself");
+		}
+		Member target = repository.findById(targetId)
+				.orElseThrow(() -> new ResourceNotFoundException("Target member not found"));
+		if (target.getArchivedAt() != null) {
+			throw new IllegalArgumentException("Cannot reassign transactions to an archived member");
+		}
+		int moved = transactionRepository.reassign("member_id", targetId, null,
+				new TransactionFilterDTO(null, id, null, null, null));
+		budgetRepository.reassignMember(id, targetId);
+		recurringRepository.reassignMember(id, targetId);
+		planRepository.reassignMember(id, targetId);
+		if (repository.deleteRow(id) == 0) {
+			throw new ResourceNotFoundException("Member not found");
+		}
+		syncVersionService.tombstone(ResourceVersionService.MEMBERS, id);
+
+		versionService.increment(ResourceVersionService.MEMBERS);
+		versionService.increment(ResourceVersionService.TRANSACTIONS);
+		budgetTracker.reloadBudgetsAfterCommit();
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.MEMBERS, ChangeAction.DELETED, id));
+		publisher.publishEvent(EntityChangeEvent.invalidated(ResourceVersionService.TRANSACTIONS));
+		if (moved > 0) {
+			publisher.publishEvent(new TransactionBulkChangeEvent(moved));
 		}
+		auditJournal.record(ResourceVersionService.MEMBERS, ChangeAction.DELETED, id, null,
+				Map.of("reassignedTo", targetId, "transactionsMoved", moved));
 	}
 }
@@ -0,0 +1,72 @@
+package com.elissandro.financeiro.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.elissandro.financeiro.services.exceptions.RecordingException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+@Service
+public class RecordingService {
+
+	@Value("${jfr.recording.max-duration-seconds}")
+	private Long maxDurationSeconds;
+
+	@Value("${jfr.recording.max-size-mb}")
+	private Long maxSizeMb;
+
+	private Recording recording;
+
+	public synchronized void start(String settings, Long durationSeconds) {
+		if (recording != null && recording.getState() == RecordingState.RUNNING) {
+			throw new RecordingException("A recording is already running");
+		}
+		closeRecording();
+
+		long seconds = durationSeconds != null ? Math.min(durationSeconds, maxDurationSeconds) : maxDurationSeconds;
+		try {
+			recording = new Recording(Configuration.getConfiguration(settings));
+		} catch (IOException | ParseException e) {
+			throw new RecordingException("Invalid recording settings: " + settings);
+		}
+		recording.setName("financeiro-on-demand");
+		recording.setToDisk(true);
+		recording.setDuration(Duration.ofSeconds(seconds));
+		recording.setMaxSize(maxSizeMb * 1024 * 1024);
+		recording.start();
+	}
+
+	public synchronized Path stop() {
+		if (recording == null || recording.getState() == RecordingState.CLOSED) {
+			throw new RecordingException("No recording to stop");
+		}
+		try {
+			if (recording.getState() == RecordingState.RUNNING) {
+				recording.stop();
+			}
+			Path file = Files.createTempFile("financeiro-", ".jfr");
+			recording.dump(file);
+			return file;
+		} catch (IOException e) {
+			throw new RecordingException("Could not dump recording: " + e.getMessage());
+		} finally {
+			closeRecording();
+		}
+	}
+
+	private void closeRecording() {
+		if (recording != null) {
+			recording.close();
+			recording = null;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.elissandro.financeiro.services;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RecurringTransactionScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(RecurringTransactionScheduler.class);
+
+	private static final String LEASE_NAME = "recurring-transactions";
+
+	@Value("${recurring.scheduler.lease-seconds}")
+	private long leaseSeconds;
+
+	@Autowired
+	private SchedulerLeaseService leaseService;
+
+	@Autowired
+	private RecurringTransactionService service;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void catchUp() {
+		run();
+	}
+
+	@Scheduled(cron = "${recurring.scheduler.cron}", zone = "UTC")
+	public void run() {
+		if (!leaseService.tryAcquire(LEASE_NAME, Duration.ofSeconds(leaseSeconds))) {
+			logger.debug("Recurring transaction lease is held by another node");
+			return;
+		}
+		try {
+			service.generateDue(LocalDate.now(ZoneOffset.UTC));
+		} catch (Exception e) {
+			logger.error("Could not generate recurring transactions", e);
+		} finally {
+			leaseService.release(LEASE_NAME);
+		}
+	}
+}
@@ -0,0 +1,230 @@
+package com.elissandro.financeiro.services;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.dto.RecurringTransactionDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Member;
+import com.elissandro.financeiro.entities.RecurringTransaction;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.events.ChangeAction;
+import com.elissandro.financeiro.events.EntityChangeEvent;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.MemberRepository;
+import com.elissandro.financeiro.repositories.RecurringTransactionRepository;
+import com.elissandro.financeiro.services.exceptions.DatabaseException;
+import com.elissandro.financeiro.services.exceptions.ResourceNotFoundException;
+import com.elissandro.financeiro.util.Fingerprints;
+import com.elissandro.financeiro.util.Money;
+
+@Service
+public class RecurringTransactionService {
+
+	private static final Logger logger = LoggerFactory.getLogger(RecurringTransactionService.class);
+
+	private static final String INSERT_TRANSACTION = """
+			INSERT INTO transactions (amount, description, date, transaction_type, category_id, member_id, fingerprint,
+				change_version)
+			VALUES (?, ?, ?, ?, ?, ?, ?, %s)
+			""";
+
+	private static final String ADVANCE_TEMPLATE = """
+			UPDATE recurring_transactions SET next_due_date = ?, active = ?
+			WHERE id = ? AND next_due_date = ?
+			""";
+
+	@Autowired
+	private RecurringTransactionRepository repository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ResourceVersionService versionService;
+
+	@Autowired
+	private SyncVersionService syncVersionService;
+
+	@Autowired
+	private BudgetTracker budgetTracker;
+
+	@Autowired
+	private DescriptionSuggestionIndex suggestionIndex;
+
+	@Autowired
+	private AuditJournal auditJournal;
+
+	@Autowired
+	private ApplicationEventPublisher publisher;
+
+	@Transactional(readOnly = true)
+	public List<RecurringTransactionDTO> findAll() {
+		return repository.findAll().stream().map(template -> new RecurringTransactionDTO(template)).toList();
+	}
+
+	@Transactional
+	public RecurringTransactionDTO insert(RecurringTransactionDTO dto) {
+		validate(dto);
+		RecurringTransaction template = new RecurringTransaction();
+		copyDtoToEntity(dto, template);
+		template.setNextDueDate(firstDueOnOrAfter(template, template.getStartDate()));
+		template.setActive(dto.isActive() && isWithinEnd(template, template.getNextDueDate()));
+		template = repository.save(template);
+		return new RecurringTransactionDTO(template);
+	}
+
+	@Transactional
+	public RecurringTransactionDTO update(Long id, RecurringTransactionDTO dto) {
+		validate(dto);
+		RecurringTransaction template = repository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Recurring transaction not found"));
+		boolean rescheduled = !dto.getDayOfMonth().equals(template.getDayOfMonth())
+				|| !dto.getIntervalMonths().equals(template.getIntervalMonths())
+				|| !dto.getStartDate().equals(template.getStartDate());
+		LocalDate pending = template.getNextDueDate();
+		copyDtoToEntity(dto, template);
+		if (rescheduled) {
+			LocalDate from = pending.isAfter(template.getStartDate()) ? pending : template.getStartDate();
+			template.setNextDueDate(firstDueOnOrAfter(template, from));
+		}
+		template.setActive(dto.isActive() && isWithinEnd(template, template.getNextDueDate()));
+		template = repository.save(template);
+		return new RecurringTransactionDTO(template);
+	}
+
+	@Transactional
+	public void delete(Long id) {
+		int deleted;
+		try {
+			deleted = repository.deleteRow(id);
+		} catch (Exception e) {
+			throw new DatabaseException("Could not delete recurring transaction: " + e.getMessage());
+		}
+		if (deleted == 0) {
+			throw new ResourceNotFoundException("Recurring transaction not found");
+		}
+	}
+
+	@Transactional
+	public int generateDue(LocalDate today) {
+		List<RecurringTransaction> templates = repository.findDue(today);
+		if (templates.isEmpty()) {
+			return 0;
+		}
+		List<Object[]> instances = new ArrayList<>();
+		List<Object[]> advances = new ArrayList<>(templates.size());
+		List<Transaction> generated = new ArrayList<>();
+		for (RecurringTransaction template : templates) {
+			LocalDate due = template.getNextDueDate();
+			while (!due.isAfter(today) && isWithinEnd(template, due)) {
+				Long memberId = template.getMember() != null ? template.getMember().getId() : null;
+				instances.add(new Object[] { template.getAmount(), template.getDescription(), Date.valueOf(due),
+						template.getTransactionType().ordinal(), template.getCategory().getId(), memberId,
+						Fingerprints.of(template.getAmount(), template.getDescription()) });
+				generated.add(new Transaction(null, template.getAmount(), template.getDescription(), due,
+						new Category(template.getCategory().getId(), null),
+						memberId != null ? new Member(memberId, null, null, null) : null,
+						template.getTransactionType()));
+				due = nextDue(template, due);
+			}
+			advances.add(new Object[] { Date.valueOf(due), isWithinEnd(template, due), template.getId(),
+					Date.valueOf(template.getNextDueDate()) });
+		}
+
+		int[] advanced = jdbcTemplate.batchUpdate(ADVANCE_TEMPLATE, advances);
+		for (int count : advanced) {
+			if (count == 0) {
+				throw new DatabaseException("Recurring transactions were advanced concurrently");
+			}
+		}
+		if (!instances.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_TRANSACTION.formatted(syncVersionService.nextValueExpression()), instances);
+			versionService.increment(ResourceVersionService.TRANSACTIONS);
+			publisher.publishEvent(EntityChangeEvent.invalidated(ResourceVersionService.TRANSACTIONS));
+			for (Transaction transaction : generated) {
+				budgetTracker.record(null, transaction);
+				suggestionIndex.record(null, transaction);
+			}
+			auditJournal.record(ResourceVersionService.TRANSACTIONS, ChangeAction.CREATED, null, null,
+					Map.of("source", "recurring", "generated", instances.size(),
+							"templates", templates.stream().map(RecurringTransaction::getId).toList()));
+		}
+		logger.info("Generated {} transactions from {} recurring templates", instances.size(), templates.size());
+		return instances.size();
+	}
+
+	private static void validate(RecurringTransactionDTO dto) {
+		if (dto.getCategoryId() == null) {
+			throw new IllegalArgumentException("Recurring transaction category is required");
+		}
+		if (dto.getAmount() == null || dto.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+			throw new IllegalArgumentException("Recurring transaction amount must be positive");
+		}
+		if (dto.getTransactionType() == null || dto.getStartDate() == null) {
+			throw new IllegalArgumentException("Recurring transaction type and start date are required");
+		}
+		if (dto.getDayOfMonth() == null || dto.getDayOfMonth() < 1 || dto.getDayOfMonth() > 31) {
+			throw new IllegalArgumentException("Day of month must be between 1 and 31");
+		}
+		if (dto.getIntervalMonths() == null) {
+			dto.setIntervalMonths(1);
+		}
+		if (dto.getIntervalMonths() < 1) {
+			throw new IllegalArgumentException("Interval must be at least one month");
+		}
+	}
+
+	private void copyDtoToEntity(RecurringTransactionDTO dto, RecurringTransaction template) {
+		template.setAmount(Money.normalize(dto.getAmount()));
+		template.setDescription(dto.getDescription());
+		template.setTransactionType(dto.getTransactionType());
+		template.setDayOfMonth(dto.getDayOfMonth());
+		template.setIntervalMonths(dto.getIntervalMonths());
+		template.setStartDate(dto.getStartDate());
+		template.setEndDate(dto.getEndDate());
+		template.setCategory(categoryRepository.getReferenceById(dto.getCategoryId()));
+		template.setMember(dto.getMemberId() != null ? memberRepository.getReferenceById(dto.getMemberId()) : null);
+	}
+
+	private static LocalDate firstDueOnOrAfter(RecurringTransaction template, LocalDate date) {
+		LocalDate due = onDay(template.getStartDate(), template.getDayOfMonth());
+		if (due.isBefore(template.getStartDate())) {
+			due = nextDue(template, due);
+		}
+		while (due.isBefore(date)) {
+			due = nextDue(template, due);
+		}
+		return due;
+	}
+
+	private static LocalDate nextDue(RecurringTransaction template, LocalDate due) {
+		return onDay(due.withDayOfMonth(1).plusMonths(template.getIntervalMonths()), template.getDayOfMonth());
+	}
+
+	private static LocalDate onDay(LocalDate month, int dayOfMonth) {
+		return month.withDayOfMonth(Math.min(dayOfMonth, month.lengthOfMonth()));
+	}
+
+	private static boolean isWithinEnd(RecurringTransaction template, LocalDate date) {
+		return template.getEndDate() == null || !date.isAfter(template.getEndDate());
+	}
+}
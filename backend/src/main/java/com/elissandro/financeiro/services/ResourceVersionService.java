@@ -0,0 +1,84 @@
+package com.elissandro.financeiro.services;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class ResourceVersionService {
+
+	public static final String CATEGORIES = "categories";
+	public static final String MEMBERS = "members";
+	public static final String TRANSACTIONS = "transactions";
+	public static final String USERS = "users";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	public long current(String resource) {
+		Long version = jdbcTemplate.queryForObject("SELECT version FROM resource_versions WHERE resource = ?",
+				Long.class, resource);
+		return version != null ? version : 0L;
+	}
+
+	// The counters are persisted so that every node answers with the same ETag. A writing transaction bumps them
+	// once, right before it commits, which keeps the row locks short and the version visible with the change.
+	public void increment(String resource) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			bump(Set.of(resource));
+			return;
+		}
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			if (synchronization instanceof PendingIncrement pending) {
+				pending.resources.add(resource);
+				return;
+			}
+		}
+		PendingIncrement pending = new PendingIncrement();
+		pending.resources.add(resource);
+		TransactionSynchronizationManager.registerSynchronization(pending);
+	}
+
+	public String etag(String... resources) {
+		Map<String, Long> versions = new HashMap<>();
+		jdbcTemplate.query("SELECT resource, version FROM resource_versions WHERE resource IN (" + placeholders(resources.length)
+				+ ")", rs -> {
+					versions.put(rs.getString("resource"), rs.getLong("version"));
+				}, (Object[]) resources);
+		StringBuilder sb = new StringBuilder("\"");
+		for (String resource : resources) {
+			if (sb.length() > 1) {
+				sb.append('-');
+			}
+			sb.append(versions.getOrDefault(resource, 0L));
+		}
+		return sb.append('"').toString();
+	}
+
+	private void bump(Set<String> resources) {
+		jdbcTemplate.update("UPDATE resource_versions SET version = version + 1 WHERE resource IN ("
+				+ placeholders(resources.size()) + ")", resources.toArray());
+	}
+
+	private static String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+
+	private class PendingIncrement implements TransactionSynchronization {
+
+		private final Set<String> resources = new TreeSet<>();
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			bump(resources);
+		}
+	}
+}
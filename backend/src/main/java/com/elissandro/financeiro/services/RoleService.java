@@ -45,15 +45,17 @@ public class RoleService {
 		return new RoleDTO(role);
 	}
 	
+	@Transactional
 	public void delete(Long id) {
-		if (!repository.existsById(id)) {
-			throw new ResourceNotFoundException("Role not found");
-		}
+		int deleted;
 		try {
-			repository.deleteById(id);
+			deleted = repository.deleteRow(id);
 		} catch (Exception e) {
 			throw new DatabaseException("Could not delete role with id " + id);
 		}
+		if (deleted == 0) {
+			throw new ResourceNotFoundException("Role not found");
+		}
 	}
 
 }
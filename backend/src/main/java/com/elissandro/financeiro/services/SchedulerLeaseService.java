@@ -0,0 +1,47 @@
+package com.elissandro.financeiro.services;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.elissandro.financeiro.entities.SchedulerLease;
+import com.elissandro.financeiro.repositories.SchedulerLeaseRepository;
+
+@Service
+public class SchedulerLeaseService {
+
+	private final String owner = hostName() + "-" + UUID.randomUUID();
+
+	@Autowired
+	private SchedulerLeaseRepository repository;
+
+	public boolean tryAcquire(String name, Duration duration) {
+		if (!repository.existsById(name)) {
+			try {
+				repository.saveAndFlush(new SchedulerLease(name, null, Instant.EPOCH));
+			} catch (DataIntegrityViolationException e) {
+				// another node created the lease row first
+			}
+		}
+		Instant now = Instant.now();
+		return repository.tryAcquire(name, owner, now, now.plus(duration)) == 1;
+	}
+
+	public void release(String name) {
+		repository.release(name, owner, Instant.now());
+	}
+
+	private static String hostName() {
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			return "unknown";
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.elissandro.financeiro.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.dto.CategoryDTO;
+import com.elissandro.financeiro.dto.MemberDTO;
+import com.elissandro.financeiro.dto.SyncChangesDTO;
+import com.elissandro.financeiro.dto.SyncDeletionDTO;
+import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Member;
+import com.elissandro.financeiro.entities.SyncTombstone;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.MemberRepository;
+import com.elissandro.financeiro.repositories.SyncTombstoneRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+
+@Service
+public class SyncService {
+
+	public static final int DEFAULT_LIMIT = 500;
+	public static final int MAX_LIMIT = 2000;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private SyncTombstoneRepository tombstoneRepository;
+
+	@Autowired
+	private SyncVersionService syncVersionService;
+
+	// Not read-only on purpose: the watermark describes commits on the primary, and a lagging replica
+	// could show a later version without an earlier one that already committed there.
+	@Transactional
+	public SyncChangesDTO changes(String token, Integer limit) {
+		long since = parseToken(token);
+		int size = limit != null ? limit : DEFAULT_LIMIT;
+		if (size < 1 || size > MAX_LIMIT) {
+			throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+		}
+		long watermark = syncVersionService.committedWatermark();
+
+		// Each source is read one row past the limit, so the merged list tells whether anything is left.
+		Pageable page = PageRequest.of(0, size + 1);
+		List<Change> changes = new ArrayList<>();
+		for (Category category : categoryRepository.findByChangeVersionGreaterThanOrderByChangeVersionAsc(since, page)) {
+			changes.add(new Change(category.getChangeVersion(), category));
+		}
+		for (Member member : memberRepository.findByChangeVersionGreaterThanOrderByChangeVersionAsc(since, page)) {
+			changes.add(new Change(member.getChangeVersion(), member));
+		}
+		for (Transaction transaction : transactionRepository.findChangedSince(since, page)) {
+			changes.add(new Change(transaction.getChangeVersion(), transaction));
+		}
+		for (SyncTombstone tombstone : tombstoneRepository.findByIdGreaterThanOrderByIdAsc(since, page)) {
+			changes.add(new Change(tombstone.getId(), tombstone));
+		}
+		// Versions above the watermark may still have a lower, uncommitted version in front of them;
+		// they are left for a later call so the token never skips past a change that is not visible yet.
+		changes.removeIf(change -> change.version() > watermark);
+		changes.sort(Comparator.comparingLong(Change::version));
+
+		SyncChangesDTO result = new SyncChangesDTO();
+		long next = since;
+		for (Change change : changes.subList(0, Math.min(size, changes.size()))) {
+			next = change.version();
+			if (change.row() instanceof Category category) {
+				result.getCategories().add(new CategoryDTO(category));
+			} else if (change.row() instanceof Member member) {
+				result.getMembers().add(new MemberDTO(member));
+			} else if (change.row() instanceof Transaction transaction) {
+				result.getTransactions().add(new TransactionDTO(transaction));
+			} else if (change.row() instanceof SyncTombstone tombstone) {
+				result.getDeleted().add(new SyncDeletionDTO(tombstone));
+			}
+		}
+		result.setNextToken(Long.toString(next));
+		result.setHasMore(changes.size() > size);
+		return result;
+	}
+
+	private static long parseToken(String token) {
+		if (token == null || token.isBlank()) {
+			return 0L;
+		}
+		try {
+			long since = Long.parseLong(token.trim());
+			if (since < 0) {
+				throw new IllegalArgumentException("Invalid sync token");
+			}
+			return since;
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid sync token");
+		}
+	}
+
+	private record Change(long version, Object row) {
+	}
+}
@@ -0,0 +1,45 @@
+package com.elissandro.financeiro.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Member;
+import com.elissandro.financeiro.entities.Transaction;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+@Component
+public class SyncVersionListener {
+
+	@Lazy
+	@Autowired
+	private SyncVersionService syncVersionService;
+
+	@PrePersist
+	@PreUpdate
+	public void stamp(Object entity) {
+		long version = syncVersionService.next();
+		if (entity instanceof Transaction transaction) {
+			transaction.setChangeVersion(version);
+		} else if (entity instanceof Category category) {
+			category.setChangeVersion(version);
+		} else if (entity instanceof Member member) {
+			member.setChangeVersion(version);
+		}
+	}
+
+	@PostRemove
+	public void tombstone(Object entity) {
+		if (entity instanceof Transaction transaction) {
+			syncVersionService.tombstone(ResourceVersionService.TRANSACTIONS, transaction.getId());
+		} else if (entity instanceof Category category) {
+			syncVersionService.tombstone(ResourceVersionService.CATEGORIES, category.getId());
+		} else if (entity instanceof Member member) {
+			syncVersionService.tombstone(ResourceVersionService.MEMBERS, member.getId());
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.elissandro.financeiro.services;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class SyncVersionService {
+
+	private static final Logger logger = LoggerFactory.getLogger(SyncVersionService.class);
+
+	public static final String SEQUENCE = "sync_version_seq";
+
+	private static final String[] VERSIONED_TABLES = { ResourceVersionService.CATEGORIES,
+			ResourceVersionService.MEMBERS, ResourceVersionService.TRANSACTIONS };
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private volatile Boolean postgres;
+
+	// Versions are taken from the sequence when a row is written but only become visible on commit,
+	// so every writing transaction holds a reservation below the versions it can take until it ends.
+	private final Set<Reservation> reservations = ConcurrentHashMap.newKeySet();
+	private final AtomicLong highWater = new AtomicLong();
+
+	public long next() {
+		String expression = nextValueExpression();
+		long version = jdbcTemplate.queryForObject("SELECT " + expression, Long.class);
+		highWater.accumulateAndGet(version, Math::max);
+		return version;
+	}
+
+	public void tombstone(String resource, Long id) {
+		jdbcTemplate.update("INSERT INTO sync_tombstones (id, resource, entity_id) VALUES (" + nextValueExpression()
+				+ ", ?, ?)", resource, id);
+	}
+
+	public int stampUnversioned(String table) {
+		return jdbcTemplate.update("UPDATE " + table + " SET change_version = " + nextValueExpression()
+				+ " WHERE change_version IS NULL");
+	}
+
+	public String nextValueExpression() {
+		reserve();
+		return isPostgres() ? "nextval('" + SEQUENCE + "')" : "NEXT VALUE FOR " + SEQUENCE;
+	}
+
+	// Highest version below which every change is committed: the sequence position minus any version
+	// a still-running transaction on this node may hold. The sequence is read before the reservations,
+	// so a transaction reserving afterwards can only take versions above it.
+	public long committedWatermark() {
+		long watermark = current();
+		for (Reservation reservation : reservations) {
+			watermark = Math.min(watermark, reservation.floor);
+		}
+		return watermark;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void backfill() {
+		current();
+		for (String table : VERSIONED_TABLES) {
+			int updated = stampUnversioned(table);
+			if (updated > 0) {
+				logger.info("Assigned sync versions to {} rows of {}", updated, table);
+			}
+		}
+	}
+
+	private long current() {
+		Long value = jdbcTemplate.queryForObject(isPostgres()
+				? "SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END FROM " + SEQUENCE
+				: "SELECT BASE_VALUE - 1 FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = '"
+						+ SEQUENCE.toUpperCase() + "'", Long.class);
+		long current = value != null ? value : 0L;
+		highWater.accumulateAndGet(current, Math::max);
+		return current;
+	}
+
+	private void reserve() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			if (synchronization instanceof Reservation) {
+				return;
+			}
+		}
+		Reservation reservation = new Reservation(highWater.get());
+		reservations.add(reservation);
+		TransactionSynchronizationManager.registerSynchronization(reservation);
+	}
+
+	private boolean isPostgres() {
+		if (postgres == null) {
+			String product = jdbcTemplate.execute(
+					(ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+			postgres = "PostgreSQL".equalsIgnoreCase(product);
+		}
+		return postgres;
+	}
+
+	private class Reservation implements TransactionSynchronization {
+
+		private final long floor;
+
+		Reservation(long floor) {
+			this.floor = floor;
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			reservations.remove(this);
+		}
+	}
+}
@@ -0,0 +1,231 @@
+package com.elissandro.financeiro.services;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.dto.TransactionImportResultDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Member;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.events.ChangeAction;
+import com.elissandro.financeiro.events.EntityChangeEvent;
+import com.elissandro.financeiro.jfr.TransactionOperationEvent;
+import com.elissandro.financeiro.projections.TransactionFingerprintProjection;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+import com.elissandro.financeiro.util.Fingerprints;
+import com.elissandro.financeiro.util.Money;
+
+@Service
+public class TransactionImportService {
+
+	private static final Logger logger = LoggerFactory.getLogger(TransactionImportService.class);
+
+	private static final int MAX_ROWS = 50_000;
+	private static final int MAX_TOLERANCE_DAYS = 15;
+	private static final int QUERY_CHUNK = 1000;
+
+	private static final String INSERT_TRANSACTION = """
+			INSERT INTO transactions (amount, description, date, transaction_type, category_id, member_id, fingerprint,
+				change_version)
+			VALUES (?, ?, ?, ?, ?, ?, ?, %s)
+			""";
+
+	@Value("${transactions.import.duplicate-tolerance-days}")
+	private int defaultToleranceDays;
+
+	@Autowired
+	private TransactionRepository repository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private CategorizationEngine categorizationEngine;
+
+	@Autowired
+	private ResourceVersionService versionService;
+
+	@Autowired
+	private SyncVersionService syncVersionService;
+
+	@Autowired
+	private BudgetTracker budgetTracker;
+
+	@Autowired
+	private DescriptionSuggestionIndex suggestionIndex;
+
+	@Autowired
+	private AuditJournal auditJournal;
+
+	@Autowired
+	private ApplicationEventPublisher publisher;
+
+	@Transactional
+	public TransactionImportResultDTO importTransactions(List<TransactionDTO> rows, Integer toleranceDays) {
+		if (rows == null || rows.isEmpty() || rows.size() > MAX_ROWS) {
+			throw new IllegalArgumentException("An import must have between 1 and " + MAX_ROWS + " rows");
+		}
+		int tolerance = toleranceDays != null ? toleranceDays : defaultToleranceDays;
+		if (tolerance < 0 || tolerance > MAX_TOLERANCE_DAYS) {
+			throw new IllegalArgumentException("Tolerance must be between 0 and " + MAX_TOLERANCE_DAYS + " days");
+		}
+
+		TransactionOperationEvent event = new TransactionOperationEvent();
+		event.begin();
+		List<Transaction> candidates = new ArrayList<>(rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			candidates.add(toEntity(rows.get(i), i));
+		}
+		LocalDate from = candidates.stream().map(Transaction::getDate).min(LocalDate::compareTo).get().minusDays(tolerance);
+		LocalDate to = candidates.stream().map(Transaction::getDate).max(LocalDate::compareTo).get().plusDays(tolerance);
+
+		Map<String, List<LocalDate>> existing = new HashMap<>();
+		Set<String> loaded = new HashSet<>();
+		List<Integer> duplicates = new ArrayList<>();
+		List<Transaction> accepted = new ArrayList<>(candidates.size());
+		for (int start = 0; start < candidates.size(); start += QUERY_CHUNK) {
+			List<Transaction> chunk = candidates.subList(start, Math.min(start + QUERY_CHUNK, candidates.size()));
+			loadExisting(chunk, from, to, loaded, existing);
+			for (int i = 0; i < chunk.size(); i++) {
+				Transaction transaction = chunk.get(i);
+				if (consume(existing.get(key(transaction)), transaction.getDate(), tolerance)) {
+					duplicates.add(start + i);
+				} else {
+					accepted.add(transaction);
+				}
+			}
+		}
+
+		if (!accepted.isEmpty()) {
+			String insert = INSERT_TRANSACTION.formatted(syncVersionService.nextValueExpression());
+			jdbcTemplate.batchUpdate(insert, accepted.stream().map(transaction -> new Object[] {
+					transaction.getAmount(), transaction.getDescription(), Date.valueOf(transaction.getDate()),
+					transaction.getTransactionType().ordinal(), transaction.getCategory().getId(),
+					transaction.getMember() != null ? transaction.getMember().getId() : null,
+					transaction.getFingerprint() }).toList());
+			versionService.increment(ResourceVersionService.TRANSACTIONS);
+			publisher.publishEvent(EntityChangeEvent.invalidated(ResourceVersionService.TRANSACTIONS));
+			for (Transaction transaction : accepted) {
+				budgetTracker.record(null, transaction);
+				suggestionIndex.record(null, transaction);
+			}
+			auditJournal.record(ResourceVersionService.TRANSACTIONS, ChangeAction.CREATED, null, null,
+					Map.of("source", "import", "imported", accepted.size(), "duplicates", duplicates.size()));
+		}
+		if (event.shouldCommit()) {
+			event.operation = "import";
+			event.rowCount = accepted.size();
+			event.commit();
+		}
+		return new TransactionImportResultDTO(rows.size(), accepted.size(), duplicates);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillFingerprints() {
+		int updated = 0;
+		List<Object[]> batch;
+		do {
+			batch = jdbcTemplate.query(
+					"SELECT id, amount, description FROM transactions WHERE fingerprint IS NULL AND amount IS NOT NULL LIMIT "
+							+ QUERY_CHUNK,
+					(rs, rowNum) -> new Object[] { Fingerprints.of(rs.getBigDecimal("amount"), rs.getString("description")),
+							rs.getLong("id") });
+			if (!batch.isEmpty()) {
+				jdbcTemplate.batchUpdate("UPDATE transactions SET fingerprint = ? WHERE id = ?", batch);
+				updated += batch.size();
+			}
+		} while (batch.size() == QUERY_CHUNK);
+		if (updated > 0) {
+			logger.info("Backfilled fingerprints for {} transactions", updated);
+		}
+	}
+
+	private void loadExisting(List<Transaction> chunk, LocalDate from, LocalDate to, Set<String> loaded,
+			Map<String, List<LocalDate>> existing) {
+		Set<String> fingerprints = chunk.stream().map(Transaction::getFingerprint)
+				.filter(fingerprint -> !loaded.contains(fingerprint))
+				.collect(Collectors.toSet());
+		if (fingerprints.isEmpty()) {
+			return;
+		}
+		loaded.addAll(fingerprints);
+		for (TransactionFingerprintProjection row : repository.findFingerprints(fingerprints, from, to)) {
+			existing.computeIfAbsent(key(row.getFingerprint(), row.getMemberId()), k -> new ArrayList<>())
+					.add(row.getDate());
+		}
+	}
+
+	private Transaction toEntity(TransactionDTO dto, int index) {
+		if (dto.getAmount() == null || dto.getTransactionType() == null) {
+			throw new IllegalArgumentException("Row " + index + ": amount and transaction type are required");
+		}
+		Long categoryId = dto.getCategory() != null && dto.getCategory().getId() != null
+				? dto.getCategory().getId()
+				: categorizationEngine.categorize(dto.getDescription());
+		if (categoryId == null) {
+			throw new IllegalArgumentException("Row " + index + ": category is required and could not be inferred");
+		}
+		Transaction transaction = new Transaction(null, Money.normalize(dto.getAmount()), dto.getDescription(),
+				dto.getDate() != null ? dto.getDate() : OffsetDateTime.now(ZoneOffset.UTC).toLocalDate(),
+				new Category(categoryId, null),
+				dto.getMemberId() != null ? new Member(dto.getMemberId(), null, null, null) : null,
+				dto.getTransactionType());
+		transaction.updateFingerprint();
+		return transaction;
+	}
+
+	private static boolean consume(List<LocalDate> dates, LocalDate date, int tolerance) {
+		if (dates == null || dates.isEmpty()) {
+			return false;
+		}
+		long bestDistance = Long.MAX_VALUE;
+		for (LocalDate existing : dates) {
+			long distance = Math.abs(ChronoUnit.DAYS.between(existing, date));
+			if (distance <= tolerance && distance < bestDistance) {
+				bestDistance = distance;
+			}
+		}
+		if (bestDistance == Long.MAX_VALUE) {
+			return false;
+		}
+		for (Iterator<LocalDate> it = dates.iterator(); it.hasNext();) {
+			if (Math.abs(ChronoUnit.DAYS.between(it.next(), date)) == bestDistance) {
+				it.remove();
+				break;
+			}
+		}
+		return true;
+	}
+
+	private static String key(Transaction transaction) {
+		return key(transaction.getFingerprint(),
+				transaction.getMember() != null ? transaction.getMember().getId() : null);
+	}
+
+	private static String key(String fingerprint, Long memberId) {
+		return fingerprint + "|" + memberId;
+	}
+}
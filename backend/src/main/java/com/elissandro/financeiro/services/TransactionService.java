@@ -1,83 +1,611 @@
 package com.elissandro.financeiro.services;
 
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.elissandro.financeiro.dto.BalanceGranularity;
+import com.elissandro.financeiro.dto.BalancePointDTO;
+import com.elissandro.financeiro.dto.BalanceSeriesDTO;
+import com.elissandro.financeiro.dto.BulkOperation;
+import com.elissandro.financeiro.dto.DescriptionSuggestionDTO;
+import com.elissandro.financeiro.dto.TransactionBulkDTO;
+import com.elissandro.financeiro.dto.TransactionBulkResultDTO;
 import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.dto.TransactionFilterDTO;
+import com.elissandro.financeiro.dto.TransactionSummaryDTO;
 import com.elissandro.financeiro.entities.Category;
 import com.elissandro.financeiro.entities.Member;
 import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.events.ChangeAction;
+import com.elissandro.financeiro.events.EntityChangeEvent;
+import com.elissandro.financeiro.events.TransactionBulkChangeEvent;
+import com.elissandro.financeiro.jfr.TransactionOperationEvent;
+import com.elissandro.financeiro.projections.TransactionFieldSelection;
+import com.elissandro.financeiro.projections.TransactionTotalProjection;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.MemberRepository;
 import com.elissandro.financeiro.repositories.TransactionRepository;
+import com.elissandro.financeiro.services.exceptions.ConflictException;
 import com.elissandro.financeiro.services.exceptions.DatabaseException;
 import com.elissandro.financeiro.services.exceptions.ResourceNotFoundException;
+import com.elissandro.financeiro.util.Fingerprints;
+import com.elissandro.financeiro.util.Money;
+
+import jakarta.persistence.PersistenceException;
 
 @Service
 public class TransactionService {
 
+	private static final long MAX_BALANCE_POINTS = 3660;
+	private static final int MAX_SEARCH_LENGTH = 100;
+	private static final int MAX_SUGGESTIONS = 20;
+	private static final int MAX_BULK_IDS = 10_000;
+
 	@Autowired
 	private TransactionRepository repository;
 	
+	@Autowired
+	private CategoryRepository categoryRepository;
+	
+	@Autowired
+	private MemberRepository memberRepository;
+	
+	@Autowired
+	private ResourceVersionService versionService;
+	
+	@Autowired
+	private BudgetTracker budgetTracker;
+	
+	@Autowired
+	private InstallmentSchedule installmentSchedule;
+	
+	@Autowired
+	private DescriptionSuggestionIndex suggestionIndex;
+	
+	@Autowired
+	private CategorizationEngine categorizationEngine;
+	
+	@Autowired
+	private SyncVersionService syncVersionService;
+	
+	@Autowired
+	private AuditJournal auditJournal;
+	
+	@Autowired
+	private ApplicationEventPublisher publisher;
+	
 	
 	@Transactional(readOnly = true)
-	public Page<TransactionDTO> findAll(Pageable pageable) {
-		Page<Transaction> transactions = repository.findAll(pageable);
-		return transactions.map(transaction -> new TransactionDTO(transaction));
+	public Page<Map<String, Object>> findAll(Pageable pageable, TransactionFieldSelection selection, String q) {
+		if (q != null && q.trim().length() > MAX_SEARCH_LENGTH) {
+			throw new IllegalArgumentException("Search term must have at most " + MAX_SEARCH_LENGTH + " characters");
+		}
+		TransactionOperationEvent event = new TransactionOperationEvent();
+		event.begin();
+		boolean search = q != null && !q.isBlank();
+		Page<Map<String, Object>> transactions = search
+				? repository.searchProjected(q, selection, pageable)
+				: findWithInstallments(selection, pageable);
+		commitEvent(event, search ? "search" : "findAll", transactions.getNumberOfElements());
+		return transactions;
 	}
 	
+	private Page<Map<String, Object>> findWithInstallments(TransactionFieldSelection selection, Pageable pageable) {
+		InstallmentSchedule.VirtualCounts counts = installmentSchedule.virtualCounts();
+		Sort sort = pageable.getSort();
+		Sort.Order primary = sort.stream().findFirst().orElse(null);
+		// Installments are placed by due date without expanding their plans, so only date ordered listings merge them
+		if (counts.total() == 0 || primary == null || !primary.getProperty().equals("date")) {
+			return repository.findProjected(selection, pageable);
+		}
+		boolean ascending = primary.isAscending();
+		long total = repository.count() + counts.total();
+		long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+		int size = pageable.isPaged() ? pageable.getPageSize() : (int) total;
+		if (offset >= total) {
+			return new PageImpl<>(List.of(), pageable, total);
+		}
+
+		LocalDate firstStored = repository.findFirstDate();
+		LocalDate lastStored = repository.findLastDate();
+		YearMonth firstMonth = YearMonth.from(firstStored != null && firstStored.isBefore(counts.firstDueDate())
+				? firstStored : counts.firstDueDate());
+		YearMonth lastMonth = YearMonth.from(lastStored != null && lastStored.isAfter(counts.lastDueDate())
+				? lastStored : counts.lastDueDate());
+
+		// The page starts in the last month, in sort order, whose preceding rows don't reach past the offset.
+		// Rows before a month boundary are counted, stored ones by the database and virtual ones from the schedules.
+		long month = 0;
+		long high = ChronoUnit.MONTHS.between(firstMonth, lastMonth);
+		long storedBefore = 0;
+		long virtualBefore = 0;
+		while (month < high) {
+			long middle = (month + high + 1) / 2;
+			LocalDate boundary = monthBoundary(firstMonth, lastMonth, middle, ascending);
+			long stored = ascending ? repository.countDatedBefore(boundary) : repository.countDatedAfterOrUndated(boundary);
+			long virtual = ascending ? counts.dueBefore(boundary) : counts.dueAfter(boundary);
+			if (stored + virtual <= offset) {
+				month = middle;
+				storedBefore = stored;
+				virtualBefore = virtual;
+			} else {
+				high = middle - 1;
+			}
+		}
+		LocalDate start = monthBoundary(firstMonth, lastMonth, month, ascending);
+		int skip = (int) (offset - storedBefore - virtualBefore);
+		int fetch = skip + size;
+
+		TransactionFieldSelection withSort = selection.including(sort.stream().map(Sort.Order::getProperty).toList());
+		Comparator<Map<String, Object>> order = rowOrder(sort);
+		List<Map<String, Object>> window = repository.findProjectedWindow(withSort, sort, storedBefore, fetch);
+		LocalDate end = virtualEnd(counts, start, virtualBefore, fetch, ascending);
+		LocalDate lastInWindow = window.size() == fetch ? (LocalDate) window.get(fetch - 1).get("date") : null;
+		if (lastInWindow != null && (ascending ? lastInWindow.isBefore(end) : lastInWindow.isAfter(end))) {
+			end = lastInWindow;
+		}
+		boolean anyVirtual = ascending ? !end.isBefore(start) : !end.isAfter(start);
+		List<Map<String, Object>> virtual = anyVirtual
+				? installmentSchedule.virtualInstallments(ascending ? start : end, ascending ? end : start).stream()
+						.map(installment -> toRow(installment, withSort)).sorted(order).toList()
+				: List.of();
+
+		List<Map<String, Object>> content = new ArrayList<>();
+		int d = 0;
+		int v = 0;
+		for (int position = 0; position < fetch && (d < window.size() || v < virtual.size()); position++) {
+			Map<String, Object> next = d < window.size()
+					&& (v == virtual.size() || order.compare(virtual.get(v), window.get(d)) >= 0)
+					? window.get(d++) : virtual.get(v++);
+			if (position >= skip) {
+				Map<String, Object> row = new LinkedHashMap<>(next);
+				row.keySet().removeIf(key -> withSort.getFields().contains(key) && !selection.getFields().contains(key));
+				content.add(row);
+			}
+		}
+		return new PageImpl<>(content, pageable, total);
+	}
+
+	private static LocalDate monthBoundary(YearMonth firstMonth, YearMonth lastMonth, long month, boolean ascending) {
+		return ascending ? firstMonth.plusMonths(month).atDay(1) : lastMonth.minusMonths(month).atEndOfMonth();
+	}
+
+	// Nearest due date, in sort order, by which the page has seen enough installments after the start to fill it
+	private static LocalDate virtualEnd(InstallmentSchedule.VirtualCounts counts, LocalDate start, long virtualBefore,
+			int fetch, boolean ascending) {
+		LocalDate edge = ascending ? counts.lastDueDate() : counts.firstDueDate();
+		long low = 0;
+		long high = Math.abs(ChronoUnit.DAYS.between(start, edge));
+		if (ascending ? edge.isBefore(start) : edge.isAfter(start)) {
+			return edge;
+		}
+		while (low < high) {
+			long middle = (low + high) / 2;
+			long seen = ascending ? counts.dueBefore(start.plusDays(middle + 1)) - virtualBefore
+					: counts.dueAfter(start.minusDays(middle + 1)) - virtualBefore;
+			if (seen >= fetch) {
+				high = middle;
+			} else {
+				low = middle + 1;
+			}
+		}
+		return ascending ? start.plusDays(low) : start.minusDays(low);
+	}
+
 	@Transactional(readOnly = true)
-	public TransactionDTO findById(Long id) {
-		Optional<Transaction> optionalTransaction = repository.findById(id);
+	public Map<String, Object> findById(Long id, TransactionFieldSelection selection) {
+		TransactionOperationEvent event = new TransactionOperationEvent();
+		event.begin();
+		Optional<Map<String, Object>> optionalTransaction = repository.findProjectedById(id, selection);
+		commitEvent(event, "findById", optionalTransaction.isPresent() ? 1 : 0);
 		if (optionalTransaction.isEmpty()) {
 			throw new ResourceNotFoundException("Transaction not found");
 		}
-		return new TransactionDTO(optionalTransaction.get());
+		return optionalTransaction.get();
+	}
+	
+	public List<DescriptionSuggestionDTO> suggest(String prefix, int limit) {
+		if (limit < 1 || limit > MAX_SUGGESTIONS) {
+			throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+		}
+		return suggestionIndex.suggest(prefix, limit);
+	}
+	
+	@Transactional(readOnly = true)
+	public TransactionSummaryDTO summary(LocalDate from, LocalDate to) {
+		LocalDate today = OffsetDateTime.now(ZoneOffset.UTC).toLocalDate();
+		from = from != null ? from : today.with(TemporalAdjusters.firstDayOfMonth());
+		to = to != null ? to : today.with(TemporalAdjusters.lastDayOfMonth());
+		
+		TransactionOperationEvent event = new TransactionOperationEvent();
+		event.begin();
+		long incomeCents = 0L;
+		long expenseCents = 0L;
+		long count = 0L;
+		for (TransactionTotalProjection total : repository.sumByTransactionType(from, to)) {
+			if (total.getTransactionType() == TransactionType.INCOME) {
+				incomeCents += Money.toCents(total.getTotal());
+			} else if (total.getTransactionType() == TransactionType.EXPENSE) {
+				expenseCents += Money.toCents(total.getTotal());
+			}
+			count += total.getCount();
+		}
+		for (Transaction installment : installmentSchedule.virtualInstallments(from, to)) {
+			if (installment.getTransactionType() == TransactionType.INCOME) {
+				incomeCents += Money.toCents(installment.getAmount());
+			} else if (installment.getTransactionType() == TransactionType.EXPENSE) {
+				expenseCents += Money.toCents(installment.getAmount());
+			}
+			count++;
+		}
+		commitEvent(event, "summary", (int) count);
+		return new TransactionSummaryDTO(from, to, Money.fromCents(incomeCents), Money.fromCents(expenseCents),
+				Money.fromCents(incomeCents - expenseCents), count);
+	}
+	
+	@Transactional(readOnly = true)
+	public BalanceSeriesDTO balanceSeries(LocalDate from, LocalDate to, BalanceGranularity granularity) {
+		if (to.isBefore(from)) {
+			throw new IllegalArgumentException("'to' must not be before 'from'");
+		}
+		LocalDate bucket = bucketStart(from, granularity);
+		LocalDate lastBucket = bucketStart(to, granularity);
+		if (bucketUnit(granularity).between(bucket, lastBucket) + 1 > MAX_BALANCE_POINTS) {
+			throw new IllegalArgumentException("Too many points for granularity " + granularity);
+		}
+		
+		TransactionOperationEvent event = new TransactionOperationEvent();
+		event.begin();
+		long opening = Money.toCents(repository.balanceBefore(from)) + installmentSchedule.balanceBefore(from);
+		List<Object[]> days = repository.dailyBalances(from, to.plusDays(1), TransactionType.EXPENSE.ordinal());
+		List<Transaction> installments = installmentSchedule.virtualInstallments(from, to);
+		commitEvent(event, "balanceSeries", days.size());
+		
+		BalanceSeriesDTO series = new BalanceSeriesDTO(from, to, granularity, Money.fromCents(opening), null);
+		long running = 0L;
+		long installmentRunning = 0L;
+		long balance = opening;
+		int index = 0;
+		int installmentIndex = 0;
+		while (!bucket.isAfter(lastBucket)) {
+			LocalDate next = bucket.plus(1, bucketUnit(granularity));
+			long net = 0L;
+			while (index < days.size() && toLocalDate(days.get(index)[0]).isBefore(next)) {
+				net += Money.toCents(toBigDecimal(days.get(index)[1]));
+				running = Money.toCents(toBigDecimal(days.get(index)[2]));
+				index++;
+			}
+			while (installmentIndex < installments.size() && installments.get(installmentIndex).getDate().isBefore(next)) {
+				Transaction installment = installments.get(installmentIndex++);
+				long cents = Money.signedCents(installment.getAmount(), installment.getTransactionType());
+				net += cents;
+				installmentRunning += cents;
+			}
+			balance = opening + running + installmentRunning;
+			series.getPoints().add(new BalancePointDTO(bucket, Money.fromCents(net), Money.fromCents(balance)));
+			bucket = next;
+		}
+		series.setClosingBalance(Money.fromCents(balance));
+		return series;
 	}
 	
 	@Transactional
 	public TransactionDTO insert(TransactionDTO dto) {
+		TransactionOperationEvent event = new TransactionOperationEvent();
+		event.begin();
 		Transaction transaction = new Transaction();
-		transaction.setAmount(dto.getAmount());
+		transaction.setAmount(Money.normalize(dto.getAmount()));
 		transaction.setDate(dto.getDate() != null
 				? dto.getDate()
 				: OffsetDateTime.now(ZoneOffset.UTC).toLocalDate());
 		transaction.setTransactionType(dto.getTransactionType());
 		transaction.setDescription(dto.getDescription());
 		transaction.setMember(dto.getMemberId() != null
-				? new Member(dto.getMemberId(), null, null, null)
+				? memberRepository.getReferenceById(dto.getMemberId())
 				: null);
-		transaction.setCategory(new Category(dto.getCategory().getId(), null));
+		transaction.setCategory(categoryRepository.getReferenceById(resolveCategory(dto)));
 		transaction = repository.save(transaction);
-		return new TransactionDTO(transaction);
+		versionService.increment(ResourceVersionService.TRANSACTIONS);
+		budgetTracker.record(null, transaction);
+		suggestionIndex.record(null, transaction);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.TRANSACTIONS, ChangeAction.CREATED, transaction.getId()));
+		TransactionDTO result = new TransactionDTO(transaction);
+		auditJournal.record(ResourceVersionService.TRANSACTIONS, ChangeAction.CREATED, transaction.getId(), null, result);
+		commitEvent(event, "insert", 1);
+		return result;
 	}
 	
 	@Transactional
 	public TransactionDTO update(Long id, TransactionDTO dto) {
+		TransactionOperationEvent event = new TransactionOperationEvent();
+		event.begin();
 		Transaction transaction = repository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
-		transaction.setAmount(dto.getAmount());
+		if (dto.getVersion() != null && !dto.getVersion().equals(transaction.getVersion())) {
+			throw new ConflictException("Transaction was modified by another request");
+		}
+		Transaction before = copyOf(transaction);
+		transaction.setAmount(Money.normalize(dto.getAmount()));
 		transaction.setDate(dto.getDate());
 		transaction.setTransactionType(dto.getTransactionType());
 		transaction.setDescription(dto.getDescription());
-		transaction.setMember(new Member(dto.getMemberId(), null, null, null));
-		transaction.setCategory(new Category(dto.getCategory().getId(), null));
+		transaction.setMember(dto.getMemberId() != null
+				? memberRepository.getReferenceById(dto.getMemberId())
+				: null);
+		transaction.setCategory(categoryRepository.getReferenceById(resolveCategory(dto)));
 		transaction = repository.save(transaction);
-		return new TransactionDTO(transaction);
+		versionService.increment(ResourceVersionService.TRANSACTIONS);
+		budgetTracker.record(before, transaction);
+		suggestionIndex.record(before, transaction);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.TRANSACTIONS, ChangeAction.UPDATED, id));
+		TransactionDTO result = new TransactionDTO(transaction);
+		auditJournal.record(ResourceVersionService.TRANSACTIONS, ChangeAction.UPDATED, id, new TransactionDTO(before), result);
+		commitEvent(event, "update", 1);
+		return result;
 	}
 	
-	public void delete(Long id) {
-		if (!repository.existsById(id)) {
-			throw new ResourceNotFoundException("Transaction not found");
+	@Transactional
+	public long patch(Long id, TransactionDTO dto) {
+		if (dto.getVersion() == null) {
+			throw new IllegalArgumentException("Transaction version is required");
+		}
+		TransactionOperationEvent event = new TransactionOperationEvent();
+		event.begin();
+		Map<String, Object> changes = new LinkedHashMap<>();
+		if (dto.getAmount() != null) {
+			changes.put("amount", Money.normalize(dto.getAmount()));
+		}
+		if (dto.getDescription() != null) {
+			changes.put("description", dto.getDescription());
+		}
+		if (dto.getDate() != null) {
+			changes.put("date", dto.getDate());
+		}
+		if (dto.getTransactionType() != null) {
+			changes.put("transaction_type", dto.getTransactionType().ordinal());
+		}
+		if (dto.getCategory() != null && dto.getCategory().getId() != null) {
+			changes.put("category_id", dto.getCategory().getId());
+		}
+		if (dto.getMemberId() != null) {
+			changes.put("member_id", dto.getMemberId());
+		}
+		boolean fingerprintKnown = dto.getAmount() != null && dto.getDescription() != null;
+		if (fingerprintKnown) {
+			changes.put("fingerprint", Fingerprints.of(Money.normalize(dto.getAmount()), dto.getDescription()));
+		}
+		Transaction before = repository.patchReturning(id, dto.getVersion(), changes).orElse(null);
+		if (before == null) {
+			if (!repository.existsById(id)) {
+				throw new ResourceNotFoundException("Transaction not found");
+			}
+			throw new ConflictException("Transaction was modified by another request");
+		}
+		Transaction after = copyOf(before);
+		if (dto.getAmount() != null) {
+			after.setAmount(Money.normalize(dto.getAmount()));
+		}
+		if (dto.getDescription() != null) {
+			after.setDescription(dto.getDescription());
+		}
+		if (dto.getDate() != null) {
+			after.setDate(dto.getDate());
+		}
+		if (dto.getTransactionType() != null) {
+			after.setTransactionType(dto.getTransactionType());
 		}
+		if (dto.getCategory() != null && dto.getCategory().getId() != null) {
+			after.setCategory(new Category(dto.getCategory().getId(), null));
+		}
+		if (dto.getMemberId() != null) {
+			after.setMember(new Member(dto.getMemberId(), null, null, null));
+		}
+		after.setVersion(before.getVersion() + 1);
+		after.updateFingerprint();
+		if (!fingerprintKnown && (dto.getAmount() != null || dto.getDescription() != null)) {
+			repository.updateFingerprint(id, after.getFingerprint());
+		}
+		versionService.increment(ResourceVersionService.TRANSACTIONS);
+		budgetTracker.record(before, after);
+		suggestionIndex.record(before, after);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.TRANSACTIONS, ChangeAction.UPDATED, id));
+		auditJournal.record(ResourceVersionService.TRANSACTIONS, ChangeAction.UPDATED, id, new TransactionDTO(before),
+				new TransactionDTO(after));
+		commitEvent(event, "patch", 1);
+		return after.getVersion();
+	}
+	
+	@Transactional
+	public void delete(Long id) {
+		TransactionOperationEvent event = new TransactionOperationEvent();
+		event.begin();
+		Optional<Transaction> deleted;
 		try {
-			repository.deleteById(id);
+			deleted = repository.deleteReturning(id);
 		} catch (Exception e) {
 			throw new DatabaseException("Could not delete transaction: " + e.getMessage());
 		}
+		Transaction transaction = deleted.orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
+		syncVersionService.tombstone(ResourceVersionService.TRANSACTIONS, id);
+		Transaction restored = installmentSchedule.virtualInstallment(transaction);
+		versionService.increment(ResourceVersionService.TRANSACTIONS);
+		budgetTracker.record(transaction, restored);
+		suggestionIndex.record(transaction, null);
+		publisher.publishEvent(new EntityChangeEvent(ResourceVersionService.TRANSACTIONS, ChangeAction.DELETED, id));
+		auditJournal.record(ResourceVersionService.TRANSACTIONS, ChangeAction.DELETED, id, new TransactionDTO(transaction), null);
+		commitEvent(event, "delete", 1);
+	}
+	
+	@Transactional
+	public TransactionBulkResultDTO bulk(TransactionBulkDTO dto) {
+		if (dto.getOperation() == null) {
+			throw new IllegalArgumentException("Bulk operation is required");
+		}
+		boolean byIds = dto.getIds() != null && !dto.getIds().isEmpty();
+		boolean byFilter = dto.getFilter() != null && !dto.getFilter().isEmpty();
+		if (byIds == byFilter) {
+			throw new IllegalArgumentException("Bulk operations take either an id list or a filter");
+		}
+		if (byIds && dto.getIds().size() > MAX_BULK_IDS) {
+			throw new IllegalArgumentException("Bulk operations accept at most " + MAX_BULK_IDS + " ids");
+		}
+		List<Long> ids = byIds ? dto.getIds() : null;
+		TransactionFilterDTO filter = byIds ? null : dto.getFilter();
+
+		TransactionOperationEvent event = new TransactionOperationEvent();
+		event.begin();
+		int affected;
+		try {
+			affected = switch (dto.getOperation()) {
+			case RECATEGORIZE -> {
+				if (dto.getCategoryId() == null) {
+					throw new IllegalArgumentException("Target category is required");
+				}
+				yield repository.reassign("category_id", dto.getCategoryId(), ids, filter);
+			}
+			case REASSIGN_MEMBER -> {
+				if (dto.getMemberId() == null) {
+					throw new IllegalArgumentException("Target member is required");
+				}
+				yield repository.reassign("member_id", dto.getMemberId(), ids, filter);
+			}
+			case DELETE -> repository.bulkDelete(ids, filter);
+			};
+		} catch (PersistenceException | DataIntegrityViolationException e) {
+			throw new DatabaseException("Could not apply bulk " + dto.getOperation() + ": " + e.getMessage());
+		}
+		if (affected > 0) {
+			versionService.increment(ResourceVersionService.TRANSACTIONS);
+			publisher.publishEvent(EntityChangeEvent.invalidated(ResourceVersionService.TRANSACTIONS));
+			publisher.publishEvent(new TransactionBulkChangeEvent(affected));
+			auditJournal.record(ResourceVersionService.TRANSACTIONS,
+					dto.getOperation() == BulkOperation.DELETE ? ChangeAction.DELETED : ChangeAction.UPDATED, null, null, dto);
+		}
+		commitEvent(event, "bulk-" + dto.getOperation().name().toLowerCase(), affected);
+		return new TransactionBulkResultDTO(dto.getOperation(), affected);
+	}
+	
+	private Long resolveCategory(TransactionDTO dto) {
+		if (dto.getCategory() != null && dto.getCategory().getId() != null) {
+			return dto.getCategory().getId();
+		}
+		Long categoryId = categorizationEngine.categorize(dto.getDescription());
+		if (categoryId == null) {
+			throw new IllegalArgumentException("Transaction category is required and could not be inferred");
+		}
+		return categoryId;
+	}
+	
+	private static Transaction copyOf(Transaction transaction) {
+		return new Transaction(transaction.getId(), transaction.getAmount(), transaction.getDescription(),
+				transaction.getDate(), transaction.getCategory(), transaction.getMember(),
+				transaction.getTransactionType());
+	}
+	
+	private static Map<String, Object> toRow(Transaction installment, TransactionFieldSelection selection) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (String field : selection.getFields()) {
+			row.put(field, switch (field) {
+			case "amount" -> installment.getAmount();
+			case "description" -> installment.getDescription();
+			case "date" -> installment.getDate();
+			case "transactionType" -> installment.getTransactionType();
+			case "memberId" -> installment.getMember() != null ? installment.getMember().getId() : null;
+			case "categoryId" -> installment.getCategory() != null ? installment.getCategory().getId() : null;
+			default -> null;
+			});
+		}
+		row.put("installmentPlanId", installment.getInstallmentPlan().getId());
+		row.put("installmentNumber", installment.getInstallmentNumber());
+		if (selection.isExpandMember()) {
+			Member member = installment.getMember();
+			Map<String, Object> nested = null;
+			if (member != null) {
+				nested = new LinkedHashMap<>();
+				nested.put("id", member.getId());
+				nested.put("name", member.getName());
+				nested.put("role", member.getRole());
+				nested.put("createdAt", member.getCreatedAt());
+			}
+			row.put("member", nested);
+		}
+		if (selection.isExpandCategory()) {
+			Category category = installment.getCategory();
+			Map<String, Object> nested = null;
+			if (category != null) {
+				nested = new LinkedHashMap<>();
+				nested.put("id", category.getId());
+				nested.put("name", category.getName());
+			}
+			row.put("category", nested);
+		}
+		return row;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Comparator<Map<String, Object>> rowOrder(Sort sort) {
+		Comparator<Map<String, Object>> order = (left, right) -> 0;
+		for (Sort.Order property : sort) {
+			Comparator<Comparable> values = property.isAscending()
+					? Comparator.nullsLast(Comparator.<Comparable>naturalOrder())
+					: Comparator.nullsFirst(Comparator.<Comparable>reverseOrder());
+			order = order.thenComparing(row -> (Comparable) row.get(property.getProperty()), values);
+		}
+		return order;
+	}
+	
+	private static LocalDate bucketStart(LocalDate date, BalanceGranularity granularity) {
+		return switch (granularity) {
+		case DAY -> date;
+		case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		case MONTH -> date.withDayOfMonth(1);
+		};
+	}
+	
+	private static ChronoUnit bucketUnit(BalanceGranularity granularity) {
+		return switch (granularity) {
+		case DAY -> ChronoUnit.DAYS;
+		case WEEK -> ChronoUnit.WEEKS;
+		case MONTH -> ChronoUnit.MONTHS;
+		};
+	}
+	
+	private static LocalDate toLocalDate(Object value) {
+		return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+	}
+	
+	private static BigDecimal toBigDecimal(Object value) {
+		return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+	}
+	
+	private void commitEvent(TransactionOperationEvent event, String operation, int rowCount) {
+		if (event.shouldCommit()) {
+			event.operation = operation;
+			event.rowCount = rowCount;
+			event.commit();
+		}
 	}
 }
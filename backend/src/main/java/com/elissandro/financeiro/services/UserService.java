@@ -13,7 +13,6 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.elissandro.financeiro.dto.RoleDTO;
@@ -22,6 +21,7 @@ import com.elissandro.financeiro.dto.UserInsertDTO;
 import com.elissandro.financeiro.dto.UserUpdateDTO;
 import com.elissandro.financeiro.entities.Role;
 import com.elissandro.financeiro.entities.User;
+import com.elissandro.financeiro.events.ChangeAction;
 import com.elissandro.financeiro.projections.UserDetailsProjection;
 import com.elissandro.financeiro.repositories.RoleRepository;
 import com.elissandro.financeiro.repositories.UserRepository;
@@ -45,6 +45,9 @@ public class UserService implements UserDetailsService {
 	@Autowired
 	private AuthService authService;
 	
+	@Autowired
+	private AuditJournal auditJournal;
+	
 
 	@Transactional(readOnly = true)
 	public UserDTO findMe() {
@@ -74,15 +77,20 @@ public class UserService implements UserDetailsService {
 		copyDtoToEntity(dto, entity);
 		entity.setPassword(passwordEncoder.encode(dto.getPassword()));
 		entity = repository.save(entity);
-		return new UserDTO(entity);
+		UserDTO result = new UserDTO(entity);
+		auditJournal.record(ResourceVersionService.USERS, ChangeAction.CREATED, result.getId(), null, result);
+		return result;
 	}
 
 	@Transactional
 	public User update(Long id, UserUpdateDTO dto) {
 		try {
 			User entity = repository.getReferenceById(id);
+			UserDTO before = new UserDTO(entity);
 			copyDtoToEntity(dto, entity);
-			return repository.save(entity);
+			entity = repository.save(entity);
+			auditJournal.record(ResourceVersionService.USERS, ChangeAction.UPDATED, id, before, new UserDTO(entity));
+			return entity;
 		} catch (EntityNotFoundException e) {
 			throw new ResourceNotFoundException("Id not found " + id);
 		}
@@ -101,18 +109,18 @@ public class UserService implements UserDetailsService {
 		}
 	}
 
-	@Transactional(propagation = Propagation.SUPPORTS)
+	@Transactional
 	public void delete(Long id) {
-
-		if (!repository.existsById(id)) {
+		User deleted;
+		try {
+			deleted = repository.deleteReturning(id).orElse(null);
+		} catch (DataIntegrityViolationException e) {
+			throw new DatabaseException("");
+		}
+		if (deleted == null) {
 			throw new EntityNotFoundException("Id not found " + id);
-		} else {
-			try {
-				repository.deleteById(id);
-			} catch (DataIntegrityViolationException e) {
-				throw new DatabaseException("");
-			}
 		}
+		auditJournal.record(ResourceVersionService.USERS, ChangeAction.DELETED, id, new UserDTO(deleted), null);
 	}
 
 	@Override
@@ -0,0 +1,145 @@
+package com.elissandro.financeiro.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+public final class CategoryMatcher {
+
+	private static final int NO_MATCH = Integer.MAX_VALUE;
+
+	private final Long[] categories;
+	private final char[] alphabet;
+	private final int alphabetSize;
+	private final int[] transitions;
+	private final int[] best;
+	private final Pattern[] regexes;
+	private final int[] regexRanks;
+
+	private CategoryMatcher(Long[] categories, char[] alphabet, int alphabetSize, int[] transitions, int[] best,
+			Pattern[] regexes, int[] regexRanks) {
+		this.categories = categories;
+		this.alphabet = alphabet;
+		this.alphabetSize = alphabetSize;
+		this.transitions = transitions;
+		this.best = best;
+		this.regexes = regexes;
+		this.regexRanks = regexRanks;
+	}
+
+	public static CategoryMatcher compile(List<Rule> rules) {
+		List<Rule> ordered = new ArrayList<>(rules);
+		ordered.sort(Comparator.comparingInt(Rule::priority).reversed());
+		Long[] categories = new Long[ordered.size()];
+
+		List<String> keywords = new ArrayList<>();
+		List<Integer> keywordRanks = new ArrayList<>();
+		List<Pattern> regexes = new ArrayList<>();
+		List<Integer> regexRanks = new ArrayList<>();
+		for (int rank = 0; rank < ordered.size(); rank++) {
+			Rule rule = ordered.get(rank);
+			categories[rank] = rule.categoryId();
+			if (rule.regex()) {
+				regexes.add(Pattern.compile(rule.pattern(), Pattern.CASE_INSENSITIVE));
+				regexRanks.add(rank);
+			} else {
+				String keyword = Descriptions.normalize(rule.pattern());
+				if (!keyword.isEmpty()) {
+					keywords.add(keyword);
+					keywordRanks.add(rank);
+				}
+			}
+		}
+
+		char[] alphabet = new char[Character.MAX_VALUE + 1];
+		int alphabetSize = 1;
+		for (String keyword : keywords) {
+			for (char c : keyword.toCharArray()) {
+				if (alphabet[c] == 0) {
+					alphabet[c] = (char) alphabetSize++;
+				}
+			}
+		}
+
+		List<Map<Integer, Integer>> trie = new ArrayList<>();
+		List<Integer> output = new ArrayList<>();
+		trie.add(new HashMap<>());
+		output.add(NO_MATCH);
+		for (int k = 0; k < keywords.size(); k++) {
+			int state = 0;
+			for (char c : keywords.get(k).toCharArray()) {
+				Integer next = trie.get(state).get((int) alphabet[c]);
+				if (next == null) {
+					next = trie.size();
+					trie.add(new HashMap<>());
+					output.add(NO_MATCH);
+					trie.get(state).put((int) alphabet[c], next);
+				}
+				state = next;
+			}
+			output.set(state, Math.min(output.get(state), keywordRanks.get(k)));
+		}
+
+		int states = trie.size();
+		int[] transitions = new int[states * alphabetSize];
+		int[] fail = new int[states];
+		int[] best = new int[states];
+		for (int state = 0; state < states; state++) {
+			best[state] = output.get(state);
+		}
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int c = 0; c < alphabetSize; c++) {
+			Integer next = trie.get(0).get(c);
+			if (next != null) {
+				transitions[c] = next;
+				queue.add(next);
+			}
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			best[state] = Math.min(best[state], best[fail[state]]);
+			for (int c = 0; c < alphabetSize; c++) {
+				Integer next = trie.get(state).get(c);
+				if (next != null) {
+					fail[next] = transitions[fail[state] * alphabetSize + c];
+					transitions[state * alphabetSize + c] = next;
+					queue.add(next);
+				} else {
+					transitions[state * alphabetSize + c] = transitions[fail[state] * alphabetSize + c];
+				}
+			}
+		}
+
+		return new CategoryMatcher(categories, alphabet, alphabetSize, transitions, best,
+				regexes.toArray(Pattern[]::new), regexRanks.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	public Long match(String description) {
+		String text = Descriptions.normalize(description);
+		int rank = NO_MATCH;
+		int state = 0;
+		for (int i = 0; i < text.length(); i++) {
+			state = transitions[state * alphabetSize + alphabet[text.charAt(i)]];
+			if (best[state] < rank) {
+				rank = best[state];
+			}
+		}
+		// Regexes are tried one by one in priority order, and only while they could still beat the best
+		// keyword, so overlapping matches cannot hide a higher-priority rule.
+		for (int i = 0; i < regexes.length && regexRanks[i] < rank; i++) {
+			if (regexes[i].matcher(text).find()) {
+				rank = regexRanks[i];
+				break;
+			}
+		}
+		return rank == NO_MATCH ? null : categories[rank];
+	}
+
+	public record Rule(String pattern, boolean regex, Long categoryId, int priority) {
+	}
+}
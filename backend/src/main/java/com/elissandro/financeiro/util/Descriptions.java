@@ -0,0 +1,24 @@
+package com.elissandro.financeiro.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+public final class Descriptions {
+
+	private Descriptions() {
+	}
+
+	public static String normalize(String value) {
+		if (value == null) {
+			return "";
+		}
+		String trimmed = value.trim();
+		for (int i = 0; i < trimmed.length(); i++) {
+			if (trimmed.charAt(i) > 127) {
+				String stripped = Normalizer.normalize(trimmed, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+				return stripped.toLowerCase(Locale.ROOT);
+			}
+		}
+		return trimmed.toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,35 @@
+package com.elissandro.financeiro.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class Fingerprints {
+
+	private static final int LENGTH = 16;
+
+	private Fingerprints() {
+	}
+
+	public static String of(BigDecimal amount, String description) {
+		if (amount == null) {
+			return null;
+		}
+		String key = Money.toCents(amount) + "|" + Descriptions.normalize(description).replaceAll("\\s+", " ");
+		return HexFormat.of().formatHex(digest(key), 0, LENGTH);
+	}
+
+	public static String sha256(String value) {
+		return HexFormat.of().formatHex(digest(value));
+	}
+
+	private static byte[] digest(String value) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
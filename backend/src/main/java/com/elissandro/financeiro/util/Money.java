@@ -0,0 +1,34 @@
+package com.elissandro.financeiro.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.elissandro.financeiro.entities.TransactionType;
+
+public final class Money {
+
+	public static final int SCALE = 2;
+
+	private Money() {
+	}
+
+	public static BigDecimal normalize(BigDecimal amount) {
+		return amount != null ? amount.setScale(SCALE, RoundingMode.HALF_EVEN) : null;
+	}
+
+	public static long toCents(BigDecimal amount) {
+		if (amount == null) {
+			return 0L;
+		}
+		return normalize(amount).unscaledValue().longValueExact();
+	}
+
+	public static BigDecimal fromCents(long cents) {
+		return BigDecimal.valueOf(cents, SCALE);
+	}
+
+	public static long signedCents(BigDecimal amount, TransactionType transactionType) {
+		long cents = toCents(amount);
+		return transactionType == TransactionType.EXPENSE ? -cents : cents;
+	}
+}
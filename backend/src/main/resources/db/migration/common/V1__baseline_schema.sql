@@ -0,0 +1,157 @@
+-- Baseline schema, portable across PostgreSQL and H2.
+-- PostgreSQL-only search columns and indexes live in db/migration/postgresql.
+CREATE SEQUENCE sync_version_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE categories (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	change_version BIGINT,
+	version BIGINT DEFAULT 0 NOT NULL,
+	name VARCHAR(255)
+);
+
+CREATE INDEX idx_categories_change_version ON categories (change_version);
+
+CREATE TABLE members (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	change_version BIGINT,
+	version BIGINT DEFAULT 0 NOT NULL,
+	name VARCHAR(255),
+	role VARCHAR(255),
+	created_at DATE,
+	archived_at DATE
+);
+
+CREATE INDEX idx_members_change_version ON members (change_version);
+CREATE INDEX idx_members_archived_at ON members (archived_at);
+
+CREATE TABLE installment_plans (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	total_amount NUMERIC(19,2) NOT NULL,
+	installment_count INTEGER,
+	first_due_date DATE,
+	last_due_date DATE,
+	description VARCHAR(255),
+	transaction_type SMALLINT,
+	category_id BIGINT NOT NULL REFERENCES categories (id),
+	member_id BIGINT REFERENCES members (id)
+);
+
+CREATE INDEX idx_installment_plans_due ON installment_plans (first_due_date, last_due_date);
+
+CREATE TABLE transactions (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	change_version BIGINT,
+	version BIGINT DEFAULT 0 NOT NULL,
+	amount NUMERIC(19,2),
+	description VARCHAR(255),
+	date TIMESTAMP WITH TIME ZONE,
+	transaction_type SMALLINT,
+	member_id BIGINT REFERENCES members (id),
+	category_id BIGINT REFERENCES categories (id),
+	installment_plan_id BIGINT REFERENCES installment_plans (id),
+	installment_number INTEGER,
+	fingerprint VARCHAR(32),
+	CONSTRAINT uk_transactions_installment UNIQUE (installment_plan_id, installment_number)
+);
+
+CREATE INDEX idx_transactions_fingerprint ON transactions (fingerprint, date);
+CREATE INDEX idx_transactions_change_version ON transactions (change_version);
+CREATE INDEX idx_transactions_member ON transactions (member_id);
+CREATE INDEX idx_transactions_category ON transactions (category_id);
+
+CREATE TABLE budgets (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	amount NUMERIC(19,2) NOT NULL,
+	category_id BIGINT NOT NULL REFERENCES categories (id),
+	member_id BIGINT REFERENCES members (id)
+);
+
+CREATE INDEX idx_budgets_category ON budgets (category_id);
+
+CREATE TABLE category_rules (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	pattern VARCHAR(255) NOT NULL,
+	regex BOOLEAN NOT NULL,
+	priority INTEGER NOT NULL,
+	category_id BIGINT NOT NULL REFERENCES categories (id)
+);
+
+CREATE TABLE recurring_transactions (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	amount NUMERIC(19,2) NOT NULL,
+	description VARCHAR(255),
+	transaction_type SMALLINT,
+	day_of_month INTEGER,
+	interval_months INTEGER,
+	start_date DATE,
+	end_date DATE,
+	next_due_date DATE,
+	active BOOLEAN NOT NULL,
+	category_id BIGINT NOT NULL REFERENCES categories (id),
+	member_id BIGINT REFERENCES members (id)
+);
+
+CREATE INDEX idx_recurring_next_due ON recurring_transactions (active, next_due_date);
+
+CREATE TABLE scheduler_leases (
+	name VARCHAR(255) PRIMARY KEY,
+	owner VARCHAR(255),
+	expires_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE TABLE sync_tombstones (
+	id BIGINT PRIMARY KEY,
+	resource VARCHAR(32) NOT NULL,
+	entity_id BIGINT NOT NULL
+);
+
+CREATE TABLE audit_entries (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+	actor VARCHAR(255),
+	resource VARCHAR(32) NOT NULL,
+	entity_id BIGINT,
+	action VARCHAR(16) NOT NULL,
+	before_state TEXT,
+	after_state TEXT
+);
+
+CREATE INDEX idx_audit_entries_entity ON audit_entries (resource, entity_id, occurred_at);
+CREATE INDEX idx_audit_entries_actor ON audit_entries (actor, occurred_at);
+CREATE INDEX idx_audit_entries_occurred_at ON audit_entries (occurred_at);
+
+CREATE TABLE idempotency_keys (
+	id VARCHAR(64) PRIMARY KEY,
+	request_hash VARCHAR(64) NOT NULL,
+	response TEXT,
+	created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
+
+CREATE TABLE tb_role (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	authority VARCHAR(255)
+);
+
+CREATE TABLE tb_user (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	first_name VARCHAR(255),
+	last_name VARCHAR(255),
+	email VARCHAR(255) UNIQUE,
+	phone VARCHAR(255),
+	password VARCHAR(255)
+);
+
+CREATE TABLE tb_user_role (
+	user_id BIGINT NOT NULL REFERENCES tb_user (id),
+	role_id BIGINT NOT NULL REFERENCES tb_role (id),
+	PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE tb_password_recover (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	token VARCHAR(255) NOT NULL,
+	email VARCHAR(255) NOT NULL,
+	expiration TIMESTAMP WITH TIME ZONE NOT NULL
+);
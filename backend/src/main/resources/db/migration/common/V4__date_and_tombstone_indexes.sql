@@ -0,0 +1,5 @@
+-- Date-range reads (balance series, budgets, installment windows) scan transactions by date.
+CREATE INDEX idx_transactions_date ON transactions (date, transaction_type);
+
+-- Sync deltas page tombstones by version (the id); covering the selected columns keeps the scan index-only.
+CREATE INDEX idx_sync_tombstones_version ON sync_tombstones (id, resource, entity_id);
@@ -0,0 +1,8 @@
+-- Conditional GETs compare against these counters; they are bumped inside the writing transaction, so every node
+-- sees a new version exactly when the change it stands for is committed.
+CREATE TABLE resource_versions (
+	resource VARCHAR(32) PRIMARY KEY,
+	version BIGINT NOT NULL
+);
+
+INSERT INTO resource_versions (resource, version) VALUES ('categories', 0), ('members', 0), ('transactions', 0), ('users', 0);
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE transactions ADD COLUMN search_vector tsvector
+	GENERATED ALWAYS AS (to_tsvector('portuguese', COALESCE(description, ''))) STORED;
+
+CREATE INDEX idx_transactions_search ON transactions USING GIN (search_vector);
+CREATE INDEX idx_transactions_description_trgm ON transactions USING GIN (description gin_trgm_ops);
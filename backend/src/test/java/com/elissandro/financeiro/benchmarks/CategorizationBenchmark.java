@@ -0,0 +1,78 @@
+package com.elissandro.financeiro.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.elissandro.financeiro.util.CategoryMatcher;
+
+/*
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.elissandro.financeiro.benchmarks.CategorizationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class CategorizationBenchmark {
+
+	private static final String[] MERCHANTS = { "supermercado extra", "uber", "ifood", "posto shell", "drogasil",
+			"farmácia pague menos", "netflix", "spotify", "padaria", "restaurante", "cinema", "academia",
+			"mercado livre", "amazon", "magazine luiza", "pet shop", "estacionamento", "pedágio", "energia",
+			"água e esgoto", "internet", "telefone", "escola", "faculdade", "aluguel", "condomínio" };
+
+	@Param({ "50", "1000" })
+	private int rules;
+
+	private CategoryMatcher matcher;
+	private String[] descriptions;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		List<CategoryMatcher.Rule> compiled = new ArrayList<>();
+		for (int i = 0; i < rules; i++) {
+			String keyword = MERCHANTS[i % MERCHANTS.length] + (i < MERCHANTS.length ? "" : " " + i);
+			compiled.add(new CategoryMatcher.Rule(keyword, false, (long) (i % 20), random.nextInt(3)));
+		}
+		compiled.add(new CategoryMatcher.Rule("^pix .*aluguel", true, 99L, 1));
+		matcher = CategoryMatcher.compile(compiled);
+
+		descriptions = new String[4096];
+		for (int i = 0; i < descriptions.length; i++) {
+			descriptions[i] = "COMPRA CARTAO " + random.nextInt(10_000) + " "
+					+ MERCHANTS[random.nextInt(MERCHANTS.length)].toUpperCase() + " SAO PAULO BR";
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(4096)
+	public void categorize(Blackhole blackhole) {
+		for (String description : descriptions) {
+			blackhole.consume(matcher.match(description));
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		org.openjdk.jmh.Main.main(new String[] { CategorizationBenchmark.class.getSimpleName() });
+	}
+}
@@ -0,0 +1,97 @@
+package com.elissandro.financeiro.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.util.Money;
+
+/*
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.elissandro.financeiro.benchmarks.MoneyAggregationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyAggregationBenchmark {
+
+	@Param({ "1000", "100000" })
+	private int size;
+
+	private Double[] boxedAmounts;
+	private BigDecimal[] decimalAmounts;
+	private long[] cents;
+	private TransactionType[] types;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		boxedAmounts = new Double[size];
+		decimalAmounts = new BigDecimal[size];
+		cents = new long[size];
+		types = new TransactionType[size];
+		for (int i = 0; i < size; i++) {
+			long value = 1 + random.nextInt(500_000);
+			decimalAmounts[i] = Money.fromCents(value);
+			boxedAmounts[i] = decimalAmounts[i].doubleValue();
+			cents[i] = value;
+			types[i] = random.nextInt(4) == 0 ? TransactionType.INCOME : TransactionType.EXPENSE;
+		}
+	}
+
+	@Benchmark
+	public Double boxedDouble() {
+		Double balance = 0.0;
+		for (int i = 0; i < size; i++) {
+			balance += types[i] == TransactionType.EXPENSE ? -boxedAmounts[i] : boxedAmounts[i];
+		}
+		return balance;
+	}
+
+	@Benchmark
+	public BigDecimal bigDecimal() {
+		BigDecimal balance = BigDecimal.ZERO;
+		for (int i = 0; i < size; i++) {
+			balance = types[i] == TransactionType.EXPENSE ? balance.subtract(decimalAmounts[i]) : balance.add(decimalAmounts[i]);
+		}
+		return balance;
+	}
+
+	@Benchmark
+	public long centsFromBigDecimal() {
+		long balance = 0L;
+		for (int i = 0; i < size; i++) {
+			balance += Money.signedCents(decimalAmounts[i], types[i]);
+		}
+		return balance;
+	}
+
+	@Benchmark
+	public long primitiveCents() {
+		long balance = 0L;
+		for (int i = 0; i < size; i++) {
+			balance += types[i] == TransactionType.EXPENSE ? -cents[i] : cents[i];
+		}
+		return balance;
+	}
+
+	public static void main(String[] args) throws Exception {
+		org.openjdk.jmh.Main.main(new String[] { MoneyAggregationBenchmark.class.getSimpleName() });
+	}
+}
@@ -0,0 +1,97 @@
+package com.elissandro.financeiro.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.elissandro.financeiro.dto.CategoryDTO;
+import com.elissandro.financeiro.dto.MemberDTO;
+import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/*
+ * Serialized sizes are printed once per trial.
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.elissandro.financeiro.benchmarks.SerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+	@Param({ "20", "2000" })
+	private int size;
+
+	private List<TransactionDTO> page;
+	private ObjectMapper json;
+	private ObjectMapper jsonBlackbird;
+	private ObjectMapper smile;
+	private ObjectMapper cbor;
+
+	@Setup
+	public void setup() throws Exception {
+		page = new ArrayList<>(size);
+		MemberDTO member = new MemberDTO(1L, "Elissandro", "Pai", LocalDate.of(2025, 1, 10));
+		CategoryDTO category = new CategoryDTO(11L, "Supermercado");
+		for (int i = 0; i < size; i++) {
+			TransactionDTO dto = new TransactionDTO((long) i, BigDecimal.valueOf(10_000 + i, 2), "Compra mensal " + i,
+					LocalDate.of(2025, 1, 1).plusDays(i % 365), member, category, TransactionType.EXPENSE);
+			dto.setMemberId(member.getId());
+			page.add(dto);
+		}
+		json = new ObjectMapper().registerModule(new JavaTimeModule());
+		jsonBlackbird = new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new BlackbirdModule());
+		smile = new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule()).registerModule(new BlackbirdModule());
+		cbor = new ObjectMapper(new CBORFactory()).registerModule(new JavaTimeModule()).registerModule(new BlackbirdModule());
+
+		System.out.printf("%nsize=%d json=%d bytes smile=%d bytes cbor=%d bytes%n", size,
+				json.writeValueAsBytes(page).length, smile.writeValueAsBytes(page).length,
+				cbor.writeValueAsBytes(page).length);
+	}
+
+	@Benchmark
+	public byte[] json() throws Exception {
+		return json.writeValueAsBytes(page);
+	}
+
+	@Benchmark
+	public byte[] jsonBlackbird() throws Exception {
+		return jsonBlackbird.writeValueAsBytes(page);
+	}
+
+	@Benchmark
+	public byte[] smile() throws Exception {
+		return smile.writeValueAsBytes(page);
+	}
+
+	@Benchmark
+	public byte[] cbor() throws Exception {
+		return cbor.writeValueAsBytes(page);
+	}
+
+	public static void main(String[] args) throws Exception {
+		org.openjdk.jmh.Main.main(new String[] { SerializationBenchmark.class.getSimpleName() });
+	}
+}
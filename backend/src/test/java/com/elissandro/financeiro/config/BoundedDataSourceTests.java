@@ -0,0 +1,70 @@
+package com.elissandro.financeiro.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+class BoundedDataSourceTests {
+
+	@Test
+	void connectionsBeyondTheBoundWaitAndTimeOut() throws SQLException {
+		BoundedDataSource bounded = new BoundedDataSource(h2("bounded"), 1, 50);
+
+		try (Connection connection = bounded.getConnection()) {
+			assertEquals(0, bounded.getAvailablePermits());
+			assertThrows(SQLTransientConnectionException.class, bounded::getConnection);
+		}
+		assertEquals(1, bounded.getAvailablePermits());
+		bounded.getConnection().close();
+		assertEquals(1, bounded.getAvailablePermits());
+	}
+
+	@Test
+	void closeIsDelegatedToThePool() throws Exception {
+		ClosablePool pool = new ClosablePool();
+
+		new BoundedDataSource(pool, 1, 50).close();
+
+		assertTrue(pool.closed);
+	}
+
+	@Test
+	void routingDataSourceClosesBoundedPools() {
+		ClosablePool primary = new ClosablePool();
+		ClosablePool replica = new ClosablePool();
+
+		new ReadReplicaRoutingDataSource(new BoundedDataSource(primary, 1, 50),
+				List.of(new BoundedDataSource(replica, 1, 50)), 5000).close();
+
+		assertTrue(primary.closed && replica.closed);
+	}
+
+	private static JdbcDataSource h2(String name) {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + name);
+		return dataSource;
+	}
+
+	private static class ClosablePool extends DelegatingDataSource implements AutoCloseable {
+
+		private boolean closed;
+
+		ClosablePool() {
+			super(h2("closable"));
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+}
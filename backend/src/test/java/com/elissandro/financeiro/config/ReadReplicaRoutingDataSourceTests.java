@@ -0,0 +1,93 @@
+package com.elissandro.financeiro.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadReplicaRoutingDataSourceTests {
+
+	private final DataSource primary = h2("primary");
+	private final DataSource replica = h2("replica");
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionsUseReplicaAndWritesUsePrimary() throws SQLException {
+		ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary, List.of(replica), 5000);
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertTrue(urlOf(routing).contains("replica"));
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		assertTrue(urlOf(routing).contains("primary"));
+	}
+
+	@Test
+	void readsStayOnPrimaryRightAfterOwnWrite() throws SQLException {
+		ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary, List.of(replica), 60_000);
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("ana", null));
+
+		TransactionSynchronizationManager.initSynchronization();
+		urlOf(routing);
+		TransactionSynchronizationManager.clearSynchronization();
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertTrue(urlOf(routing).contains("primary"));
+
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bia", null));
+		assertTrue(urlOf(routing).contains("replica"));
+	}
+
+	@Test
+	void unavailableReplicaFallsBackToPrimary() throws SQLException {
+		DataSource down = new AbstractDataSource() {
+			@Override
+			public Connection getConnection() throws SQLException {
+				throw new SQLException("replica down");
+			}
+
+			@Override
+			public Connection getConnection(String username, String password) throws SQLException {
+				throw new SQLException("replica down");
+			}
+		};
+		ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary, List.of(down), 5000);
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertTrue(urlOf(routing).contains("primary"));
+		routing.checkReplicas();
+		assertTrue(urlOf(routing).contains("primary"));
+	}
+
+	private static String urlOf(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			return connection.getMetaData().getURL();
+		}
+	}
+
+	private static DataSource h2(String name) {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+		dataSource.setUser("sa");
+		return dataSource;
+	}
+}
@@ -0,0 +1,90 @@
+package com.elissandro.financeiro.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(roles = "ADMIN")
+class CategoryControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Category source;
+	private Category target;
+
+	@BeforeEach
+	void setUp() {
+		source = categoryRepository.save(new Category(null, "Merge source"));
+		target = categoryRepository.save(new Category(null, "Merge target"));
+	}
+
+	@Test
+	void mergeMovesTransactionsBudgetsAndRulesBeforeDeletingTheSource() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			transactionRepository.save(new Transaction(null, new BigDecimal("10.00"), "Mercado", LocalDate.now(), source,
+					null, TransactionType.EXPENSE));
+		}
+		transactionRepository.flush();
+		jdbcTemplate.update("INSERT INTO budgets (amount, category_id) VALUES (100.00, ?)", source.getId());
+		jdbcTemplate.update("INSERT INTO category_rules (pattern, regex, priority, category_id) VALUES ('mercado', FALSE, 1, ?)",
+				source.getId());
+
+		mockMvc.perform(post("/categories/" + source.getId() + "/merge-into/" + target.getId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(target.getId()));
+
+		assertEquals(3, count("transactions", target.getId()));
+		assertEquals(1, count("budgets", target.getId()));
+		assertEquals(1, count("category_rules", target.getId()));
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories WHERE id = ?", Integer.class,
+				source.getId()));
+	}
+
+	@Test
+	void mergeIntoItselfIsBadRequestAndMissingTargetIsNotFound() throws Exception {
+		mockMvc.perform(post("/categories/" + source.getId() + "/merge-into/" + source.getId()))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(post("/categories/" + source.getId() + "/merge-into/" + Long.MAX_VALUE))
+				.andExpect(status().isNotFound());
+	}
+
+	private int count(String table, Long categoryId) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE category_id = ?", Integer.class,
+				categoryId);
+	}
+}
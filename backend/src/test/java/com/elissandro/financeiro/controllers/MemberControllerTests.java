@@ -0,0 +1,121 @@
+package com.elissandro.financeiro.controllers;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Member;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.MemberRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(roles = "ADMIN")
+class MemberControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Category category;
+	private Member leaving;
+	private Member staying;
+
+	@BeforeEach
+	void setUp() {
+		category = categoryRepository.save(new Category(null, "Member removal"));
+		leaving = memberRepository.save(new Member(null, "Leaving", "Filho", LocalDate.now()));
+		staying = memberRepository.save(new Member(null, "Staying", "Mae", LocalDate.now()));
+		for (int i = 0; i < 2; i++) {
+			transactionRepository.save(new Transaction(null, new BigDecimal("15.00"), "Lanche", LocalDate.now(), category,
+					leaving, TransactionType.EXPENSE));
+		}
+		transactionRepository.flush();
+	}
+
+	@Test
+	void archiveHidesMemberButKeepsItsTransactions() throws Exception {
+		mockMvc.perform(post("/members/" + leaving.getId() + "/archive"))
+				.andExpect(status().isNoContent());
+		mockMvc.perform(post("/members/" + leaving.getId() + "/archive"))
+				.andExpect(status().isNoContent());
+
+		mockMvc.perform(get("/members"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[*].id", not(hasItem(leaving.getId().intValue()))))
+				.andExpect(jsonPath("$[*].id", hasItem(staying.getId().intValue())));
+		assertEquals(2, countTransactions(leaving));
+
+		mockMvc.perform(post("/members/" + Long.MAX_VALUE + "/archive"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void reassignMovesTransactionsAndBudgetsThenDeletesMember() throws Exception {
+		jdbcTemplate.update("INSERT INTO budgets (amount, category_id, member_id) VALUES (50.00, ?, ?)",
+				category.getId(), leaving.getId());
+
+		mockMvc.perform(post("/members/" + leaving.getId() + "/reassign-to/" + staying.getId()))
+				.andExpect(status().isNoContent());
+
+		assertEquals(0, countTransactions(leaving));
+		assertEquals(2, countTransactions(staying));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM budgets WHERE member_id = ?", Integer.class,
+				staying.getId()));
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members WHERE id = ?", Integer.class,
+				leaving.getId()));
+	}
+
+	@Test
+	void reassignToItselfOrToArchivedMemberIsBadRequest() throws Exception {
+		mockMvc.perform(post("/members/" + leaving.getId() + "/reassign-to/" + leaving.getId()))
+				.andExpect(status().isBadRequest());
+
+		Member archived = new Member(null, "Archived", "Tio", LocalDate.now());
+		archived.setArchivedAt(LocalDate.now());
+		archived = memberRepository.save(archived);
+		mockMvc.perform(post("/members/" + leaving.getId() + "/reassign-to/" + archived.getId()))
+				.andExpect(status().isBadRequest());
+		assertEquals(2, countTransactions(leaving));
+	}
+
+	private int countTransactions(Member member) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions WHERE member_id = ?", Integer.class,
+				member.getId());
+	}
+}
@@ -0,0 +1,76 @@
+package com.elissandro.financeiro.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({ "test", "reactive" })
+@WithMockUser(roles = "ADMIN")
+class ReactiveReadControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	private Category category;
+	private List<Transaction> transactions;
+
+	@BeforeEach
+	void setUp() {
+		category = categoryRepository.save(new Category(null, "Reactive"));
+		transactions = transactionRepository.saveAll(List.of(
+				new Transaction(null, new BigDecimal("10.00"), "Reactive padaria", LocalDate.now(), category, null,
+						TransactionType.EXPENSE),
+				new Transaction(null, new BigDecimal("20.00"), "Reactive mercado", LocalDate.now(), category, null,
+						TransactionType.EXPENSE)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionRepository.deleteAll(transactions);
+		categoryRepository.delete(category);
+	}
+
+	@Test
+	void transactionsAreStreamedAsNdjsonOverR2dbc() throws Exception {
+		MvcResult result = mockMvc.perform(get("/transactions").accept(MediaType.APPLICATION_NDJSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		result.getAsyncResult(10_000);
+
+		String body = result.getResponse().getContentAsString();
+		List<String> lines = body.lines().filter(line -> line.contains("\"Reactive ")).toList();
+		assertTrue(lines.size() == 2, body);
+		assertTrue(lines.get(0).contains("Reactive padaria") && lines.get(0).contains("\"name\":\"Reactive\""));
+		assertTrue(result.getResponse().getContentType().startsWith(MediaType.APPLICATION_NDJSON_VALUE));
+	}
+}
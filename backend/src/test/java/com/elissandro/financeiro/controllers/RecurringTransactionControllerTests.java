@@ -0,0 +1,109 @@
+package com.elissandro.financeiro.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.dto.RecurringTransactionDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.services.RecurringTransactionService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(roles = "ADMIN")
+class RecurringTransactionControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RecurringTransactionService service;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		category = categoryRepository.save(new Category(null, "Recurring"));
+	}
+
+	@Test
+	void updateWithoutIntervalDefaultsToMonthly() throws Exception {
+		RecurringTransactionDTO template = service.insert(template("Aluguel", LocalDate.now(), 3));
+
+		mockMvc.perform(put("/recurring-transactions/" + template.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content("""
+						{"amount":1500.00,"description":"Aluguel","transactionType":"EXPENSE","categoryId":%d,
+						"dayOfMonth":10,"startDate":"%s"}
+						""".formatted(category.getId(), LocalDate.now())))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.intervalMonths").value(1));
+	}
+
+	@Test
+	void updateWithoutStartDateIsBadRequest() throws Exception {
+		RecurringTransactionDTO template = service.insert(template("Aluguel", LocalDate.now(), 1));
+
+		mockMvc.perform(put("/recurring-transactions/" + template.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content("""
+						{"amount":1500.00,"description":"Aluguel","transactionType":"EXPENSE","categoryId":%d,
+						"dayOfMonth":10,"intervalMonths":1}
+						""".formatted(category.getId())))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void generateDueCatchesUpMissedMonthsInOneRun() {
+		LocalDate today = LocalDate.now();
+		LocalDate start = today.withDayOfMonth(1).minusMonths(2);
+		RecurringTransactionDTO template = service.insert(template("Academia recorrente", start, 1));
+
+		assertTrue(service.generateDue(today) >= 3);
+		assertEquals(3, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM transactions WHERE description = 'Academia recorrente'", Integer.class));
+		assertTrue(jdbcTemplate.queryForObject("SELECT next_due_date FROM recurring_transactions WHERE id = ?",
+				LocalDate.class, template.getId()).isAfter(today));
+
+		service.generateDue(today);
+		assertEquals(3, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM transactions WHERE description = 'Academia recorrente'", Integer.class));
+	}
+
+	private RecurringTransactionDTO template(String description, LocalDate start, int dayOfMonth) {
+		RecurringTransactionDTO dto = new RecurringTransactionDTO();
+		dto.setAmount(new BigDecimal("1500.00"));
+		dto.setDescription(description);
+		dto.setTransactionType(TransactionType.EXPENSE);
+		dto.setCategoryId(category.getId());
+		dto.setDayOfMonth(dayOfMonth);
+		dto.setIntervalMonths(1);
+		dto.setStartDate(start);
+		return dto;
+	}
+}
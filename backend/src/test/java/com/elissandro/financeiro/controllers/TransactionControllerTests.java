@@ -0,0 +1,307 @@
+package com.elissandro.financeiro.controllers;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.dto.BalanceGranularity;
+import com.elissandro.financeiro.dto.BalanceSeriesDTO;
+import com.elissandro.financeiro.dto.InstallmentPlanDTO;
+import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.projections.TransactionFieldSelection;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+import com.elissandro.financeiro.services.InstallmentPlanService;
+import com.elissandro.financeiro.services.TransactionService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser(roles = "ADMIN")
+class TransactionControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private InstallmentPlanService planService;
+
+	@Autowired
+	private TransactionService transactionService;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		category = categoryRepository.save(new Category(null, "Transaction controller"));
+	}
+
+	@Test
+	void listingMergesVirtualInstallmentsInSortOrder() throws Exception {
+		InstallmentPlanDTO plan = new InstallmentPlanDTO();
+		plan.setTotalAmount(new BigDecimal("300.00"));
+		plan.setInstallmentCount(3);
+		plan.setFirstDueDate(LocalDate.of(2099, 1, 10));
+		plan.setDescription("Notebook");
+		plan.setTransactionType(TransactionType.EXPENSE);
+		plan.setCategoryId(category.getId());
+		plan = planService.insert(plan);
+		TransactionDTO materialized = planService.updateInstallment(plan.getId(), 2, new TransactionDTO());
+		long stored = transactionRepository.count();
+
+		mockMvc.perform(get("/transactions").param("sort", "date,desc").param("size", "2").param("fields", "id,description"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalElements").value(stored + 2))
+				.andExpect(jsonPath("$.content[0].id").value(nullValue()))
+				.andExpect(jsonPath("$.content[0].description").value("Notebook (3/3)"))
+				.andExpect(jsonPath("$.content[0].installmentNumber").value(3))
+				.andExpect(jsonPath("$.content[0].date").doesNotExist())
+				.andExpect(jsonPath("$.content[1].id").value(materialized.getId()));
+
+		mockMvc.perform(get("/transactions").param("sort", "date,desc").param("size", "2").param("page", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].description").value("Notebook (1/3)"))
+				.andExpect(jsonPath("$.content[0].installmentPlanId").value(plan.getId()));
+	}
+
+	@Test
+	void pagesThroughInstallmentsMatchTheWholeListing() {
+		for (int i = 0; i < 2; i++) {
+			InstallmentPlanDTO plan = new InstallmentPlanDTO();
+			plan.setTotalAmount(new BigDecimal("480.00"));
+			plan.setInstallmentCount(48);
+			plan.setFirstDueDate(LocalDate.of(2097, 1, 31).plusMonths(i));
+			plan.setDescription("Carro " + i);
+			plan.setTransactionType(TransactionType.EXPENSE);
+			plan.setCategoryId(category.getId());
+			planService.insert(plan);
+		}
+		for (int i = 0; i < 30; i++) {
+			transactionRepository.save(new Transaction(null, new BigDecimal("5.00"), "Padaria " + i,
+					LocalDate.of(2097, 1, 1).plusDays(i * 45), category, null, TransactionType.EXPENSE));
+		}
+		transactionRepository.flush();
+		TransactionFieldSelection selection = TransactionFieldSelection.of("id,description,date", null);
+
+		for (Sort sort : List.of(Sort.by("date", "id"), Sort.by(Sort.Direction.DESC, "date", "id"))) {
+			Page<Map<String, Object>> whole = transactionService.findAll(PageRequest.of(0, 2000, sort), selection, null);
+			assertEquals(transactionRepository.count() + 96, whole.getTotalElements());
+			assertEquals(96, whole.getContent().stream().filter(row -> row.get("installmentPlanId") != null).count());
+			List<Map<String, Object>> paged = new ArrayList<>();
+			for (int page = 0; page * 7 < whole.getTotalElements(); page++) {
+				Page<Map<String, Object>> next = transactionService.findAll(PageRequest.of(page, 7, sort), selection, null);
+				assertEquals(whole.getTotalElements(), next.getTotalElements());
+				paged.addAll(next.getContent());
+			}
+			assertEquals(whole.getContent(), paged);
+		}
+	}
+
+	@Test
+	void patchWithStaleVersionIsConflictAndMissingIsNotFound() throws Exception {
+		Transaction transaction = transactionRepository.save(new Transaction(null, new BigDecimal("10.00"), "Padaria",
+				LocalDate.now(), category, null, TransactionType.EXPENSE));
+
+		mockMvc.perform(patch("/transactions/" + transaction.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"version\":" + (transaction.getVersion() + 1) + ",\"description\":\"Mercado\"}"))
+				.andExpect(status().isConflict());
+		mockMvc.perform(patch("/transactions/" + Long.MAX_VALUE).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"version\":0,\"description\":\"Mercado\"}"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void patchOfRowWithoutTypeKeepsItUntyped() throws Exception {
+		Transaction transaction = transactionRepository.saveAndFlush(new Transaction(null, new BigDecimal("10.00"),
+				"Sem tipo", LocalDate.now(), category, null, null));
+
+		mockMvc.perform(patch("/transactions/" + transaction.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"version\":" + transaction.getVersion() + ",\"description\":\"Ainda sem tipo\"}"))
+				.andExpect(status().isNoContent());
+
+		mockMvc.perform(get("/transactions/" + transaction.getId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.description").value("Ainda sem tipo"))
+				.andExpect(jsonPath("$.transactionType").value(nullValue()));
+		assertEquals(transaction.getVersion() + 1, jdbcTemplate.queryForObject(
+				"SELECT version FROM transactions WHERE id = ?", Long.class, transaction.getId()));
+	}
+
+	@Test
+	void listingEtagVariesWithQueryAndAcceptHeader() throws Exception {
+		String page0 = etag(get("/transactions").param("size", "5").param("page", "0"));
+		String page1 = etag(get("/transactions").param("size", "5").param("page", "1"));
+		String anyType = etag(get("/transactions").param("size", "5").param("page", "0").accept(MediaType.ALL));
+
+		assertNotEquals(page0, page1);
+		assertNotEquals(page0, anyType);
+		mockMvc.perform(get("/transactions").param("page", "0").param("size", "5")
+				.header(HttpHeaders.IF_NONE_MATCH, page0))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+		mockMvc.perform(get("/transactions").param("size", "5").param("page", "1")
+				.header(HttpHeaders.IF_NONE_MATCH, page0))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void balanceSeriesCarriesRunningBalanceAcrossEmptyDays() throws Exception {
+		LocalDate from = LocalDate.of(2097, 3, 1);
+		save("500.00", from.plusDays(1), TransactionType.INCOME);
+		save("120.00", from.plusDays(1), TransactionType.EXPENSE);
+		save("80.00", from.plusDays(3), TransactionType.EXPENSE);
+
+		BalanceSeriesDTO series = transactionService.balanceSeries(from, from.plusDays(4), BalanceGranularity.DAY);
+
+		BigDecimal opening = series.getOpeningBalance();
+		assertEquals(5, series.getPoints().size());
+		assertAmount(BigDecimal.ZERO, series.getPoints().get(0).getNet());
+		assertAmount(opening, series.getPoints().get(0).getBalance());
+		assertAmount(new BigDecimal("380.00"), series.getPoints().get(1).getNet());
+		assertAmount(opening.add(new BigDecimal("380.00")), series.getPoints().get(2).getBalance());
+		assertAmount(new BigDecimal("-80.00"), series.getPoints().get(3).getNet());
+		assertAmount(opening.add(new BigDecimal("300.00")), series.getClosingBalance());
+
+		BalanceSeriesDTO next = transactionService.balanceSeries(from.plusDays(2), from.plusDays(4), BalanceGranularity.DAY);
+		assertAmount(opening.add(new BigDecimal("380.00")), next.getOpeningBalance());
+		assertAmount(series.getClosingBalance(), next.getClosingBalance());
+	}
+
+	@Test
+	void balanceSeriesGroupsByMonth() throws Exception {
+		LocalDate from = LocalDate.of(2097, 1, 15);
+		save("50.00", from, TransactionType.INCOME);
+		save("20.00", LocalDate.of(2097, 2, 3), TransactionType.EXPENSE);
+
+		mockMvc.perform(get("/transactions/balance-series").param("from", from.toString())
+				.param("to", "2097-03-10").param("granularity", "month"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.points.length()").value(3))
+				.andExpect(jsonPath("$.points[0].date").value("2097-01-01"))
+				.andExpect(jsonPath("$.points[0].net").value(50.0))
+				.andExpect(jsonPath("$.points[1].net").value(-20.0))
+				.andExpect(jsonPath("$.points[2].net").value(0.0));
+	}
+
+	@Test
+	void searchRanksPrefixMatchesFirstAndTreatsWildcardsLiterally() throws Exception {
+		Transaction inside = save("10.00", LocalDate.now(), "Padaria Zqxmercado");
+		Transaction prefix = save("20.00", LocalDate.now().minusDays(1), "Zqxmercado central");
+		save("30.00", LocalDate.now(), "Zqx_mercado");
+
+		mockMvc.perform(get("/transactions").param("q", "zqxmercado").param("fields", "id,description"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalElements").value(2))
+				.andExpect(jsonPath("$.content[0].id").value(prefix.getId()))
+				.andExpect(jsonPath("$.content[1].id").value(inside.getId()))
+				.andExpect(jsonPath("$.content[0].amount").doesNotExist());
+
+		mockMvc.perform(get("/transactions").param("q", "zq%mercado"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalElements").value(0));
+		mockMvc.perform(get("/transactions").param("q", "zqx_mercado"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalElements").value(1));
+	}
+
+	@Test
+	void searchTermLongerThanLimitIsBadRequest() throws Exception {
+		mockMvc.perform(get("/transactions").param("q", "x".repeat(101)))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void bulkRecategorizeByFilterOnlyTouchesMatchingRows() throws Exception {
+		Category target = categoryRepository.save(new Category(null, "Bulk filter target"));
+		LocalDate day = LocalDate.of(2095, 6, 15);
+		Transaction match = save("10.00", day, "Uber viagem");
+		Transaction otherDay = save("10.00", day.plusDays(1), "Uber viagem");
+		Transaction otherDescription = save("10.00", day, "Padaria");
+
+		mockMvc.perform(post("/transactions/bulk").contentType(MediaType.APPLICATION_JSON).content("""
+				{"operation":"RECATEGORIZE","categoryId":%d,
+				"filter":{"categoryId":%d,"from":"%s","to":"%s","description":"UBER"}}
+				""".formatted(target.getId(), category.getId(), day, day)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.affected").value(1));
+
+		assertEquals(target.getId(), categoryOf(match));
+		assertEquals(category.getId(), categoryOf(otherDay));
+		assertEquals(category.getId(), categoryOf(otherDescription));
+	}
+
+	@Test
+	void bulkWithBothIdsAndFilterIsBadRequest() throws Exception {
+		mockMvc.perform(post("/transactions/bulk").contentType(MediaType.APPLICATION_JSON).content("""
+				{"operation":"DELETE","ids":[1],"filter":{"categoryId":%d}}
+				""".formatted(category.getId())))
+				.andExpect(status().isBadRequest());
+	}
+
+	private Long categoryOf(Transaction transaction) {
+		return jdbcTemplate.queryForObject("SELECT category_id FROM transactions WHERE id = ?", Long.class,
+				transaction.getId());
+	}
+
+	private Transaction save(String amount, LocalDate date, String description) {
+		return transactionRepository.saveAndFlush(new Transaction(null, new BigDecimal(amount), description, date,
+				category, null, TransactionType.EXPENSE));
+	}
+
+	private void save(String amount, LocalDate date, TransactionType type) {
+		transactionRepository.saveAndFlush(new Transaction(null, new BigDecimal(amount), "Saldo", date, category, null, type));
+	}
+
+	private static void assertAmount(BigDecimal expected, BigDecimal actual) {
+		assertEquals(0, expected.compareTo(actual), () -> "expected " + expected + " but was " + actual);
+	}
+
+	private String etag(RequestBuilder request) throws Exception {
+		return mockMvc.perform(request)
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+	}
+}
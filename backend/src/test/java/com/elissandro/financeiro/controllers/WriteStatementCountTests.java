@@ -0,0 +1,290 @@
+package com.elissandro.financeiro.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Member;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.entities.User;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.MemberRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+import com.elissandro.financeiro.repositories.UserRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(WriteStatementCountTests.Config.class)
+@WithMockUser(roles = "ADMIN")
+class WriteStatementCountTests {
+
+	@TestConfiguration
+	static class Config {
+
+		@Bean
+		static StatementCounter statementCounter() {
+			return new StatementCounter();
+		}
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private StatementCounter counter;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// requests commit for real, so every row above these watermarks is removed after each test
+	private long lastTransaction;
+	private long lastMember;
+	private long lastCategory;
+	private long lastUser;
+	private long lastTombstone;
+	private Instant started;
+	private Category category;
+	private Member member;
+	private Transaction transaction;
+
+	@BeforeEach
+	void setUp() {
+		lastTransaction = maxId("transactions");
+		lastMember = maxId("members");
+		lastCategory = maxId("categories");
+		lastUser = maxId("tb_user");
+		lastTombstone = maxId("sync_tombstones");
+		started = Instant.now().minusSeconds(1);
+		category = categoryRepository.save(new Category(null, "Statement count"));
+		member = memberRepository.save(new Member(null, "Statement count", "Tester", LocalDate.now()));
+		transaction = transactionRepository.save(new Transaction(null, new BigDecimal("12.50"), "Padaria",
+				LocalDate.now(), category, member, TransactionType.EXPENSE));
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		jdbcTemplate.update("DELETE FROM transactions WHERE id > ?", lastTransaction);
+		jdbcTemplate.update("DELETE FROM members WHERE id > ?", lastMember);
+		jdbcTemplate.update("DELETE FROM categories WHERE id > ?", lastCategory);
+		jdbcTemplate.update("DELETE FROM tb_user_role WHERE user_id > ?", lastUser);
+		jdbcTemplate.update("DELETE FROM tb_user WHERE id > ?", lastUser);
+		jdbcTemplate.update("DELETE FROM sync_tombstones WHERE id > ?", lastTombstone);
+		jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at >= ?", Timestamp.from(started));
+		awaitAuditEntries();
+		jdbcTemplate.update("DELETE FROM audit_entries WHERE occurred_at >= ?", Timestamp.from(started));
+	}
+
+	@Test
+	void insertTransactionUsesSequenceAndInsert() throws Exception {
+		// sync version, insert, resource version bump
+		assertStatements(3, post("/transactions").content(transactionJson()), status().isOk());
+	}
+
+	@Test
+	void retriedInsertWithIdempotencyKeyIsReplayedWithoutStatements() throws Exception {
+		String key = "retry-" + System.nanoTime();
+		// key claim, sync version, insert, stored response, resource version bump
+		assertStatements(5, post("/transactions").header("Idempotency-Key", key).content(transactionJson()),
+				status().isOk());
+		// replayed from the in-memory copy of the stored response
+		assertStatements(0, post("/transactions").header("Idempotency-Key", key).content(transactionJson()),
+				status().isOk());
+		// request hash compared against the in-memory copy
+		assertStatements(0, post("/transactions").header("Idempotency-Key", key).content("{\"amount\":1}"),
+				status().isConflict());
+	}
+
+	@Test
+	void updateTransactionUsesSelectSequenceAndUpdate() throws Exception {
+		// select, sync version, update, resource version bump
+		assertStatements(4, put("/transactions/" + transaction.getId()).content(transactionJson()),
+				status().isOk());
+	}
+
+	@Test
+	void patchTransactionDescriptionUsesConditionalUpdateAndFingerprint() throws Exception {
+		// conditional update with an inline sync version, fingerprint update, resource version bump
+		assertStatements(3, patch("/transactions/" + transaction.getId())
+				.content("{\"version\":" + transaction.getVersion() + ",\"description\":\"Mercado\"}"),
+				status().isNoContent());
+	}
+
+	@Test
+	void patchTransactionAmountAndDescriptionUsesSingleUpdate() throws Exception {
+		// conditional update also setting the fingerprint, resource version bump
+		assertStatements(2, patch("/transactions/" + transaction.getId())
+				.content("{\"version\":" + transaction.getVersion() + ",\"amount\":20,\"description\":\"Mercado\"}"),
+				status().isNoContent());
+	}
+
+	@Test
+	void deleteTransactionUsesDeleteAndTombstone() throws Exception {
+		// delete returning the row, tombstone, resource version bump
+		assertStatements(3, delete("/transactions/" + transaction.getId()), status().isOk());
+	}
+
+	@Test
+	void deleteMissingTransactionUsesSingleStatement() throws Exception {
+		// delete returning nothing; the rolled back transaction bumps no version
+		assertStatements(1, delete("/transactions/" + Long.MAX_VALUE), status().isNotFound());
+	}
+
+	@Test
+	void bulkRecategorizeUsesSingleUpdate() throws Exception {
+		Category target = categoryRepository.save(new Category(null, "Bulk target"));
+		// update with an inline sync version, resource version bump
+		assertStatements(2, post("/transactions/bulk").content("""
+				{"operation":"RECATEGORIZE","ids":[%d],"categoryId":%d}
+				""".formatted(transaction.getId(), target.getId())), status().isOk());
+	}
+
+	@Test
+	void bulkDeleteByFilterUsesTombstoneInsertAndDelete() throws Exception {
+		// tombstones inserted from a select, delete, resource version bump
+		assertStatements(3, post("/transactions/bulk").content("""
+				{"operation":"DELETE","filter":{"categoryId":%d}}
+				""".formatted(category.getId())), status().isOk());
+	}
+
+	@Test
+	void insertMemberUsesSequenceAndInsert() throws Exception {
+		// sync version, insert, resource version bump
+		assertStatements(3, post("/members").content("{\"name\":\"Ana\",\"role\":\"Filha\"}"), status().isOk());
+	}
+
+	@Test
+	void updateMemberUsesSelectSequenceAndUpdate() throws Exception {
+		// select, sync version, update, resource version bump
+		assertStatements(4, put("/members/" + member.getId()).content("{\"name\":\"Ana\",\"role\":\"Filha\"}"),
+				status().isOk());
+	}
+
+	@Test
+	void patchMemberUsesSequenceAndConditionalUpdate() throws Exception {
+		// sync version, conditional update, resource version bump
+		assertStatements(3, patch("/members/" + member.getId())
+				.content("{\"version\":" + member.getVersion() + ",\"role\":\"Mae\"}"), status().isNoContent());
+	}
+
+	@Test
+	void deleteMemberUsesDeleteAndTombstone() throws Exception {
+		Member unused = memberRepository.save(new Member(null, "Unused", "Tester", LocalDate.now()));
+		// delete returning the row, tombstone, resource version bump
+		assertStatements(3, delete("/members/" + unused.getId()), status().isOk());
+	}
+
+	@Test
+	void archiveMemberUsesSequenceAndSingleUpdate() throws Exception {
+		// sync version, update, resource version bump
+		assertStatements(3, post("/members/" + member.getId() + "/archive"), status().isNoContent());
+	}
+
+	@Test
+	void insertCategoryUsesSequenceAndInsert() throws Exception {
+		// sync version, insert, resource version bump
+		assertStatements(3, post("/categories").content("{\"name\":\"Viagem\"}"), status().isOk());
+	}
+
+	@Test
+	void updateCategoryUsesSelectSequenceAndUpdate() throws Exception {
+		// select, sync version, update, resource version bump
+		assertStatements(4, put("/categories/" + category.getId()).content("{\"name\":\"Viagem\"}"), status().isOk());
+	}
+
+	@Test
+	void patchCategoryUsesSequenceAndConditionalUpdate() throws Exception {
+		// sync version, conditional update, resource version bump
+		assertStatements(3, patch("/categories/" + category.getId())
+				.content("{\"version\":" + category.getVersion() + ",\"name\":\"Viagem\"}"), status().isNoContent());
+	}
+
+	@Test
+	void deleteCategoryUsesDeleteAndTombstone() throws Exception {
+		Category unused = categoryRepository.save(new Category(null, "Unused"));
+		// delete returning the row, tombstone, resource version bump
+		assertStatements(3, delete("/categories/" + unused.getId()), status().isOk());
+	}
+
+	@Test
+	void deleteUserRemovesRolesAndRow() throws Exception {
+		User user = userRepository.save(new User(null, "Statement", "Count",
+				"statement-count-" + System.nanoTime() + "@example.com", "41-000000000", "secret"));
+		// role links, user row; users carry no resource version
+		assertStatements(2, delete("/users/" + user.getId()), status().isNoContent());
+	}
+
+	private void assertStatements(int expected, MockHttpServletRequestBuilder request, ResultMatcher status)
+			throws Exception {
+		counter.start();
+		try {
+			mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON)).andExpect(status);
+		} finally {
+			assertEquals(expected, counter.stop());
+		}
+	}
+
+	// audit entries are written by a background thread after commit, so wait until no more arrive
+	private void awaitAuditEntries() throws InterruptedException {
+		long written = -1;
+		for (int i = 0; i < 50; i++) {
+			long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_entries WHERE occurred_at >= ?",
+					Long.class, Timestamp.from(started));
+			if (count == written) {
+				return;
+			}
+			written = count;
+			Thread.sleep(100);
+		}
+	}
+
+	private long maxId(String table) {
+		return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+	}
+
+	private String transactionJson() {
+		return """
+				{"amount":42.90,"description":"Supermercado","date":"%s","transactionType":"EXPENSE",
+				"category":{"id":%d},"memberId":%d}
+				""".formatted(LocalDate.now(), category.getId(), member.getId());
+	}
+}
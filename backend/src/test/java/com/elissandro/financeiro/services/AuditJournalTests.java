@@ -0,0 +1,84 @@
+package com.elissandro.financeiro.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.elissandro.financeiro.dto.CategoryDTO;
+import com.elissandro.financeiro.dto.MemberDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Member;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.MemberRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuditJournalTests {
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void patchAndDeleteRecordThePreviousState() throws Exception {
+		Category category = categoryRepository.save(new Category(null, "Audit before"));
+		CategoryDTO patch = new CategoryDTO(null, "Audit after");
+		patch.setVersion(category.getVersion());
+
+		long version = categoryService.patch(category.getId(), patch);
+		categoryService.delete(category.getId());
+
+		assertEquals(category.getVersion() + 1, version);
+		List<Map<String, Object>> entries = awaitEntries(ResourceVersionService.CATEGORIES, category.getId(), 2);
+		assertTrue(entries.get(0).get("before_state").toString().contains("Audit before"));
+		assertTrue(entries.get(0).get("after_state").toString().contains("Audit after"));
+		assertTrue(entries.get(1).get("before_state").toString().contains("Audit after"));
+	}
+
+	@Test
+	void updateRecordsAndReturnsThePersistedState() throws Exception {
+		Member member = memberRepository.save(new Member(null, "Audit member", "Titular", LocalDate.now()));
+		MemberDTO details = new MemberDTO(null, "Audit renamed", null, null);
+
+		MemberDTO result = memberService.update(member.getId(), details);
+		memberService.delete(member.getId());
+
+		assertEquals(member.getVersion() + 1, result.getVersion());
+		List<Map<String, Object>> entries = awaitEntries(ResourceVersionService.MEMBERS, member.getId(), 2);
+		assertTrue(entries.get(0).get("after_state").toString().contains("\"version\":" + result.getVersion()));
+		assertTrue(entries.get(1).get("before_state").toString().contains("Audit renamed"));
+	}
+
+	private List<Map<String, Object>> awaitEntries(String resource, Long entityId, int expected)
+			throws InterruptedException {
+		List<Map<String, Object>> entries = List.of();
+		for (int i = 0; i < 50 && entries.size() < expected; i++) {
+			Thread.sleep(100);
+			entries = jdbcTemplate.queryForList(
+					"SELECT before_state, after_state FROM audit_entries WHERE resource = ? AND entity_id = ? ORDER BY id",
+					resource, entityId);
+		}
+		assertEquals(expected, entries.size());
+		return entries;
+	}
+}
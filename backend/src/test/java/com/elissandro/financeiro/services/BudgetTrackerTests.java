@@ -0,0 +1,126 @@
+package com.elissandro.financeiro.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.elissandro.financeiro.dto.BudgetDTO;
+import com.elissandro.financeiro.dto.BudgetLevel;
+import com.elissandro.financeiro.dto.BudgetStatusDTO;
+import com.elissandro.financeiro.dto.CategoryDTO;
+import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BudgetTrackerTests {
+
+	@Autowired
+	private BudgetService budgetService;
+
+	@Autowired
+	private BudgetTracker tracker;
+
+	@Autowired
+	private TransactionService transactionService;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Category category;
+	private BudgetDTO budget;
+
+	@BeforeEach
+	void setUp() {
+		category = categoryRepository.save(new Category(null, "Budget tracker"));
+		budget = budgetService.insert(new BudgetDTO(null, new BigDecimal("100.00"), category.getId(), null));
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM transactions WHERE category_id = ?", category.getId());
+		jdbcTemplate.update("DELETE FROM budgets WHERE id = ?", budget.getId());
+		tracker.reloadBudgets();
+		categoryRepository.deleteById(category.getId());
+	}
+
+	@Test
+	void statusReflectsCommittedExpenses() {
+		insertExpense("85.00");
+
+		BudgetStatusDTO status = status();
+		assertEquals(0, new BigDecimal("85.00").compareTo(status.getSpent()));
+		assertEquals(BudgetLevel.WARNING, status.getLevel());
+	}
+
+	@Test
+	void writesCommittingDuringRebuildsAreCountedOnce() throws Exception {
+		Object target = AopTestUtils.getTargetObject(tracker);
+		AtomicBoolean writing = new AtomicBoolean(true);
+		ExecutorService executor = Executors.newFixedThreadPool(5);
+		try {
+			Future<?> rebuilds = executor.submit(() -> {
+				while (writing.get()) {
+					ReflectionTestUtils.invokeMethod(target, "refresh");
+				}
+			});
+			List<Future<?>> writers = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				writers.add(executor.submit(() -> {
+					for (int j = 0; j < 25; j++) {
+						insertExpense("1.00");
+					}
+				}));
+			}
+			for (Future<?> writer : writers) {
+				writer.get(60, TimeUnit.SECONDS);
+			}
+			writing.set(false);
+			rebuilds.get(60, TimeUnit.SECONDS);
+		} finally {
+			writing.set(false);
+			executor.shutdownNow();
+		}
+
+		assertEquals(0, new BigDecimal("100.00").compareTo(status().getSpent()));
+	}
+
+	private void insertExpense(String amount) {
+		TransactionDTO dto = new TransactionDTO(null, new BigDecimal(amount), "Budget tracker",
+				LocalDate.now(ZoneOffset.UTC), null, new CategoryDTO(category.getId(), null), TransactionType.EXPENSE);
+		transactionService.insert(dto);
+	}
+
+	private BudgetStatusDTO status() {
+		BudgetStatusDTO status = tracker.status().stream()
+				.filter(candidate -> candidate.getBudgetId().equals(budget.getId()))
+				.findFirst().orElse(null);
+		assertTrue(status != null);
+		return status;
+	}
+}
@@ -0,0 +1,112 @@
+package com.elissandro.financeiro.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.elissandro.financeiro.events.ChangeAction;
+import com.elissandro.financeiro.events.EntityChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ChangeStreamServiceTests {
+
+	private ChangeStreamService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new ChangeStreamService();
+		ReflectionTestUtils.setField(service, "timeoutMs", 60_000L);
+		ReflectionTestUtils.setField(service, "queueCapacity", 4);
+		ReflectionTestUtils.setField(service, "sendTimeoutMs", 50L);
+		ReflectionTestUtils.setField(service, "maxSenders", 2);
+		ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+		service.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void changesAreDeliveredToSubscribers() throws Exception {
+		RecordingEmitter emitter = new RecordingEmitter(false);
+		service.subscribe(emitter);
+
+		service.onChange(new EntityChangeEvent(ResourceVersionService.TRANSACTIONS, ChangeAction.CREATED, 7L));
+
+		assertNotNull(emitter.sent.poll(5, TimeUnit.SECONDS));
+		assertNotNull(emitter.sent.poll(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void stalledSubscribersAreEvictedWithoutStarvingOthers() throws Exception {
+		RecordingEmitter stalled1 = new RecordingEmitter(true);
+		RecordingEmitter stalled2 = new RecordingEmitter(true);
+		service.subscribe(stalled1);
+		service.subscribe(stalled2);
+		assertTrue(stalled1.entered.await(5, TimeUnit.SECONDS));
+		assertTrue(stalled2.entered.await(5, TimeUnit.SECONDS));
+
+		RecordingEmitter healthy = new RecordingEmitter(false);
+		service.subscribe(healthy);
+		Thread.sleep(100);
+		service.evictStalled();
+
+		assertNotNull(healthy.sent.poll(5, TimeUnit.SECONDS));
+		assertEquals(1, service.subscriberCount());
+		service.onChange(new EntityChangeEvent(ResourceVersionService.CATEGORIES, ChangeAction.UPDATED, 1L));
+		assertNotNull(healthy.sent.poll(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void subscriberWithFullQueueIsEvicted() throws Exception {
+		RecordingEmitter stalled = new RecordingEmitter(true);
+		service.subscribe(stalled);
+		assertTrue(stalled.entered.await(5, TimeUnit.SECONDS));
+
+		for (int i = 0; i < 5; i++) {
+			service.onChange(new EntityChangeEvent(ResourceVersionService.MEMBERS, ChangeAction.UPDATED, (long) i));
+		}
+
+		assertEquals(0, service.subscriberCount());
+	}
+
+	private static class RecordingEmitter extends SseEmitter {
+
+		private final boolean stall;
+		private final CountDownLatch entered = new CountDownLatch(1);
+		private final BlockingQueue<Set<DataWithMediaType>> sent = new LinkedBlockingQueue<>();
+
+		RecordingEmitter(boolean stall) {
+			this.stall = stall;
+		}
+
+		@Override
+		public void send(Set<DataWithMediaType> items) throws IOException {
+			entered.countDown();
+			if (stall) {
+				try {
+					new CountDownLatch(1).await();
+				} catch (InterruptedException e) {
+					throw new IOException("Write interrupted", e);
+				}
+			}
+			sent.add(items);
+		}
+	}
+}
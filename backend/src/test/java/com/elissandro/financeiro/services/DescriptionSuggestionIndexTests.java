@@ -0,0 +1,69 @@
+package com.elissandro.financeiro.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.elissandro.financeiro.dto.DescriptionSuggestionDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+
+class DescriptionSuggestionIndexTests {
+
+	private final DescriptionSuggestionIndex index = new DescriptionSuggestionIndex();
+
+	@Test
+	void suggestionsAreRankedByCountWithUsualCategory() {
+		index.record(null, transaction("Mercado Central", 1L));
+		index.record(null, transaction("Mercado Central", 2L));
+		index.record(null, transaction("mercado central", 2L));
+		index.record(null, transaction("Mercadinho", 3L));
+
+		List<DescriptionSuggestionDTO> suggestions = index.suggest("merc", 5);
+
+		assertEquals(2, suggestions.size());
+		assertEquals(2L, index.usualCategory("MERCADO CENTRAL"));
+	}
+
+	@Test
+	void concurrentInsertsSurviveCompaction() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> writers = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				String prefix = "loja " + (char) ('a' + t) + " ";
+				writers.add(executor.submit(() -> {
+					for (int i = 0; i < 1000; i++) {
+						index.record(null, transaction(prefix + i, 1L));
+					}
+				}));
+			}
+			for (Future<?> writer : writers) {
+				writer.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (int t = 0; t < 4; t++) {
+			for (int i = 0; i < 1000; i++) {
+				assertEquals(1L, index.usualCategory("loja " + (char) ('a' + t) + " " + i));
+			}
+		}
+	}
+
+	private static Transaction transaction(String description, Long categoryId) {
+		return new Transaction(null, BigDecimal.TEN, description, LocalDate.now(), new Category(categoryId, null), null,
+				TransactionType.EXPENSE);
+	}
+}
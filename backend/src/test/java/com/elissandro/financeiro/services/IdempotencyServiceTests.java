@@ -0,0 +1,128 @@
+package com.elissandro.financeiro.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.elissandro.financeiro.dto.BulkOperation;
+import com.elissandro.financeiro.dto.TransactionBulkResultDTO;
+import com.elissandro.financeiro.services.exceptions.ConflictException;
+
+// a single remembered response, so a second key pushes the first out of memory
+@SpringBootTest(properties = "idempotency.memory-capacity=1")
+@ActiveProfiles("test")
+class IdempotencyServiceTests {
+
+	private static final String SCOPE = "POST /transactions/bulk";
+
+	@Autowired
+	private IdempotencyService service;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final AtomicInteger executions = new AtomicInteger();
+	private Instant started;
+	private String key;
+
+	@BeforeEach
+	void setUp() {
+		started = Instant.now().minusSeconds(1);
+		key = "idempotency-test-" + System.nanoTime();
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at >= ?", Timestamp.from(started));
+	}
+
+	@Test
+	void concurrentRetriesAreCoalescedIntoOneExecution() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<TransactionBulkResultDTO>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> service.execute(key, SCOPE, "same body", TransactionBulkResultDTO.class,
+						() -> {
+							entered.countDown();
+							await(release);
+							return result(executions.incrementAndGet());
+						})));
+			}
+			entered.await(10, TimeUnit.SECONDS);
+			Thread.sleep(200);
+			release.countDown();
+			for (Future<TransactionBulkResultDTO> result : results) {
+				assertEquals(1, result.get(30, TimeUnit.SECONDS).getAffected());
+			}
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+		assertEquals(1, executions.get());
+	}
+
+	@Test
+	void storedResponseIsReplayedAfterItIsEvictedFromMemory() {
+		assertEquals(1, execute("same body").getAffected());
+		service.execute(key + "-other", SCOPE, "same body", TransactionBulkResultDTO.class,
+				() -> result(executions.incrementAndGet()));
+
+		assertEquals(1, execute("same body").getAffected());
+		assertEquals(2, executions.get());
+	}
+
+	@Test
+	void reusingAKeyWithAnotherRequestIsConflict() {
+		execute("first body");
+
+		assertThrows(ConflictException.class, () -> execute("second body"));
+		assertEquals(1, executions.get());
+	}
+
+	@Test
+	void sameKeyInAnotherScopeRunsAgain() {
+		execute("same body");
+		service.execute(key, "POST /transactions/import", "same body", TransactionBulkResultDTO.class,
+				() -> result(executions.incrementAndGet()));
+
+		assertEquals(2, executions.get());
+	}
+
+	private TransactionBulkResultDTO execute(String body) {
+		return service.execute(key, SCOPE, body, TransactionBulkResultDTO.class,
+				() -> result(executions.incrementAndGet()));
+	}
+
+	private static TransactionBulkResultDTO result(int affected) {
+		return new TransactionBulkResultDTO(BulkOperation.DELETE, affected);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.elissandro.financeiro.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ResourceVersionServiceTests {
+
+	@Autowired
+	private ResourceVersionService service;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void versionIsBumpedOnceWhenTheTransactionCommits() {
+		long before = service.current(ResourceVersionService.CATEGORIES);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			service.increment(ResourceVersionService.CATEGORIES);
+			service.increment(ResourceVersionService.CATEGORIES);
+			assertEquals(before, service.current(ResourceVersionService.CATEGORIES));
+		});
+
+		assertEquals(before + 1, service.current(ResourceVersionService.CATEGORIES));
+	}
+
+	@Test
+	void rolledBackChangesKeepTheVersion() {
+		long before = service.current(ResourceVersionService.MEMBERS);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			service.increment(ResourceVersionService.MEMBERS);
+			status.setRollbackOnly();
+		});
+
+		assertEquals(before, service.current(ResourceVersionService.MEMBERS));
+	}
+
+	@Test
+	void etagFollowsAChangeCommittedByAnotherNode() {
+		String etag = service.etag(ResourceVersionService.TRANSACTIONS, ResourceVersionService.MEMBERS);
+
+		jdbcTemplate.update("UPDATE resource_versions SET version = version + 1 WHERE resource = 'transactions'");
+
+		assertNotEquals(etag, service.etag(ResourceVersionService.TRANSACTIONS, ResourceVersionService.MEMBERS));
+	}
+}
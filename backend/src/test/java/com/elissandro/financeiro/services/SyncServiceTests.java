@@ -0,0 +1,89 @@
+package com.elissandro.financeiro.services;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.elissandro.financeiro.dto.CategoryDTO;
+import com.elissandro.financeiro.dto.SyncChangesDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SyncServiceTests {
+
+	@Autowired
+	private SyncService service;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void tokenStopsBelowVersionOfTransactionStillRunning() throws Exception {
+		String token = latestToken();
+		AtomicLong slowVersion = new AtomicLong();
+		CountDownLatch written = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Category> slow = executor.submit(() -> transactionTemplate.execute(status -> {
+				Category category = categoryRepository.saveAndFlush(new Category(null, "Sync slow"));
+				slowVersion.set(category.getChangeVersion());
+				written.countDown();
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return category;
+			}));
+			assertTrue(written.await(10, TimeUnit.SECONDS));
+			Category fast = transactionTemplate
+					.execute(status -> categoryRepository.saveAndFlush(new Category(null, "Sync fast")));
+			assertTrue(fast.getChangeVersion() > slowVersion.get());
+
+			SyncChangesDTO during = service.changes(token, null);
+			assertTrue(Long.parseLong(during.getNextToken()) < slowVersion.get());
+			assertFalse(names(during.getCategories()).contains("Sync fast"));
+
+			release.countDown();
+			Category slowCategory = slow.get(10, TimeUnit.SECONDS);
+
+			SyncChangesDTO after = service.changes(during.getNextToken(), null);
+			assertTrue(names(after.getCategories()).containsAll(List.of("Sync slow", "Sync fast")));
+			categoryRepository.deleteAllById(List.of(slowCategory.getId(), fast.getId()));
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	private String latestToken() {
+		SyncChangesDTO changes = service.changes(null, SyncService.MAX_LIMIT);
+		while (changes.isHasMore()) {
+			changes = service.changes(changes.getNextToken(), SyncService.MAX_LIMIT);
+		}
+		return changes.getNextToken();
+	}
+
+	private static List<String> names(List<CategoryDTO> categories) {
+		return categories.stream().map(CategoryDTO::getName).toList();
+	}
+}
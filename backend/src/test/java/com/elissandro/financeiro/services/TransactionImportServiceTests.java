@@ -0,0 +1,110 @@
+package com.elissandro.financeiro.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.elissandro.financeiro.dto.CategoryDTO;
+import com.elissandro.financeiro.dto.TransactionDTO;
+import com.elissandro.financeiro.dto.TransactionImportResultDTO;
+import com.elissandro.financeiro.entities.Category;
+import com.elissandro.financeiro.entities.Member;
+import com.elissandro.financeiro.entities.Transaction;
+import com.elissandro.financeiro.entities.TransactionType;
+import com.elissandro.financeiro.repositories.CategoryRepository;
+import com.elissandro.financeiro.repositories.MemberRepository;
+import com.elissandro.financeiro.repositories.TransactionRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TransactionImportServiceTests {
+
+	private static final LocalDate DATE = LocalDate.of(2096, 5, 10);
+
+	@Autowired
+	private TransactionImportService importService;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Category category;
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		category = categoryRepository.save(new Category(null, "Import"));
+		member = memberRepository.save(new Member(null, "Import", "Tester", LocalDate.now()));
+		transactionRepository.saveAndFlush(new Transaction(null, new BigDecimal("39.90"), "Netflix Assinatura", DATE,
+				category, null, TransactionType.EXPENSE));
+	}
+
+	@Test
+	void eachExistingRowAbsorbsOneImportedRowInsideTheTolerance() {
+		TransactionImportResultDTO result = importService.importTransactions(List.of(
+				row("39.9", "NETFLIX   assinatura", DATE.plusDays(2), null),
+				row("39.90", "Netflix Assinatura", DATE.plusDays(2), null),
+				row("39.90", "Netflix Assinatura", DATE.plusDays(20), null)), 3);
+
+		assertEquals(3, result.getReceived());
+		assertEquals(2, result.getInserted());
+		assertEquals(List.of(0), result.getDuplicates());
+		assertEquals(3, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM transactions WHERE category_id = ? AND fingerprint IS NOT NULL", Integer.class,
+				category.getId()));
+	}
+
+	@Test
+	void sameFingerprintForAnotherMemberIsNotADuplicate() {
+		TransactionImportResultDTO result = importService.importTransactions(List.of(
+				row("39.90", "Netflix Assinatura", DATE, member.getId())), 3);
+
+		assertEquals(1, result.getInserted());
+		assertEquals(List.of(), result.getDuplicates());
+	}
+
+	@Test
+	void zeroToleranceOnlyMatchesTheSameDay() {
+		TransactionImportResultDTO result = importService.importTransactions(List.of(
+				row("39.90", "Netflix Assinatura", DATE.plusDays(1), null),
+				row("39.90", "Netflix Assinatura", DATE, null)), 0);
+
+		assertEquals(1, result.getInserted());
+		assertEquals(List.of(1), result.getDuplicates());
+	}
+
+	@Test
+	void toleranceOutsideTheAllowedRangeIsRejected() {
+		List<TransactionDTO> rows = List.of(row("39.90", "Netflix Assinatura", DATE, null));
+
+		assertThrows(IllegalArgumentException.class, () -> importService.importTransactions(rows, 16));
+		assertThrows(IllegalArgumentException.class, () -> importService.importTransactions(rows, -1));
+	}
+
+	private TransactionDTO row(String amount, String description, LocalDate date, Long memberId) {
+		TransactionDTO dto = new TransactionDTO(null, new BigDecimal(amount), description, date, null,
+				new CategoryDTO(category.getId(), null), TransactionType.EXPENSE);
+		dto.setMemberId(memberId);
+		return dto;
+	}
+}
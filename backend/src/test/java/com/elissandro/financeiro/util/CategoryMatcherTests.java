@@ -0,0 +1,50 @@
+package com.elissandro.financeiro.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.elissandro.financeiro.util.CategoryMatcher.Rule;
+
+class CategoryMatcherTests {
+
+	@Test
+	void higherPriorityRegexWinsInsideLowerPriorityMatch() {
+		CategoryMatcher matcher = CategoryMatcher.compile(List.of(
+				new Rule("uber eats", true, 1L, 1),
+				new Rule("eats", true, 2L, 2)));
+
+		assertEquals(2L, matcher.match("Uber Eats"));
+	}
+
+	@Test
+	void keywordAndRegexAreRankedByPriority() {
+		List<Rule> regexFirst = List.of(new Rule("uber", false, 1L, 1), new Rule("uber\\s+eats", true, 2L, 5));
+		List<Rule> keywordFirst = List.of(new Rule("uber", false, 1L, 5), new Rule("uber\\s+eats", true, 2L, 1));
+
+		assertEquals(2L, CategoryMatcher.compile(regexFirst).match("UBER EATS *PEDIDO"));
+		assertEquals(1L, CategoryMatcher.compile(keywordFirst).match("UBER EATS *PEDIDO"));
+		assertEquals(1L, CategoryMatcher.compile(regexFirst).match("Uber viagem"));
+	}
+
+	@Test
+	void regexWithOwnGroupsAndBackreferencesIsMatchedOnItsOwn() {
+		CategoryMatcher matcher = CategoryMatcher.compile(List.of(
+				new Rule("(?<letra>z)\\k<letra>", true, 1L, 2),
+				new Rule("(ab)\\1", true, 2L, 1)));
+
+		assertEquals(1L, matcher.match("pizzaria"));
+		assertEquals(2L, matcher.match("abab"));
+		assertNull(matcher.match("mercado"));
+	}
+
+	@Test
+	void accentsAndCaseAreIgnoredForKeywords() {
+		CategoryMatcher matcher = CategoryMatcher.compile(List.of(new Rule("Farmácia", false, 3L, 1)));
+
+		assertEquals(3L, matcher.match("FARMACIA SAO JOAO"));
+	}
+}
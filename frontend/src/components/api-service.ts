@@ -213,7 +213,7 @@ export const transactionsApi = {
     
     while (hasMore) {
       const response = await fetch(
-        `${API_BASE_URL}/transactions?page=${currentPage}&size=100&sort=date,desc&sort=id,desc`,
+        `${API_BASE_URL}/transactions?page=${currentPage}&size=100&sort=date,desc&sort=id,desc&expand=member,category`,
         {
           headers: getAuthHeaders(),
         }
@@ -230,7 +230,7 @@ export const transactionsApi = {
   },
 
   getById: async (id: number): Promise<ApiTransaction> => {
-    const response = await fetch(`${API_BASE_URL}/transactions/${id}`, {
+    const response = await fetch(`${API_BASE_URL}/transactions/${id}?expand=member,category`, {
       headers: getAuthHeaders(),
     });
     return handleResponse<ApiTransaction>(response);